@@ -22,6 +22,7 @@ DOCKER_REGISTRY=""
 DOCKER_TAG="latest"
 CLEAN=false
 DOWNLOAD_MODELS=false
+DOCKER_TARGET="runtime"
 
 # Usage function
 usage() {
@@ -36,6 +37,7 @@ usage() {
     echo "  -r, --registry       Docker registry (required with --push)"
     echo "  -T, --tag            Docker tag (default: latest)"
     echo "  -m, --models         Download NLP models"
+    echo "  -C, --cds            Build the startup-optimized Docker image with an AppCDS archive"
     echo ""
     echo "Examples:"
     echo "  $0                          # Basic build"
@@ -79,6 +81,11 @@ while [[ $# -gt 0 ]]; do
             DOWNLOAD_MODELS=true
             shift
             ;;
+        -C|--cds)
+            BUILD_DOCKER=true
+            DOCKER_TARGET="cds"
+            shift
+            ;;
         *)
             echo -e "${RED}Unknown option: $1${NC}"
             usage
@@ -215,9 +222,9 @@ if [[ "$BUILD_DOCKER" == true ]]; then
         FULL_IMAGE_NAME="$DOCKER_REGISTRY/$IMAGE_NAME:$DOCKER_TAG"
     fi
     
-    echo "Building: $FULL_IMAGE_NAME"
+    echo "Building: $FULL_IMAGE_NAME (target: $DOCKER_TARGET)"
     
-    if ! docker build -t "$FULL_IMAGE_NAME" .; then
+    if ! docker build --target "$DOCKER_TARGET" -t "$FULL_IMAGE_NAME" .; then
         echo -e "${RED}Error: Docker build failed${NC}"
         exit 1
     fi
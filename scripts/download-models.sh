@@ -4,7 +4,7 @@ set -e
 # Script to download OpenNLP models
 # Models are downloaded from the OpenNLP model repository
 
-MODEL_DIR="/app/models"
+MODEL_DIR="${MODEL_DIR:-/app/models}"
 BASE_URL="https://dlcdn.apache.org/opennlp/models"
 
 echo "Starting OpenNLP model download..."
@@ -0,0 +1,44 @@
+#!/bin/bash
+set -e
+
+# Measures startup of the standalone UDF image with and without the AppCDS archive.
+# Both images run StartupTrainingRun over the sample events and print its startup report:
+#   ready       - JVM start until models are loaded and the UDF could take traffic
+#   firstEvent  - JVM start until the first event is enriched
+#   timeToPeak  - JVM start until a round reaches 90% of the best throughput
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_DIR="$(cd "$SCRIPT_DIR/.." && pwd)"
+
+IMAGE_NAME="${IMAGE_NAME:-numaflow-enrichment-app}"
+MODELS_DIR="${MODELS_DIR:-}"   # host directory with the OpenNLP models; fallback engines when empty
+ROUNDS="${ROUNDS:-30}"
+RUNS="${RUNS:-3}"
+
+cd "$PROJECT_DIR"
+
+echo "Building $IMAGE_NAME:runtime and $IMAGE_NAME:cds..."
+docker build -q --target runtime -t "$IMAGE_NAME:runtime" . > /dev/null
+docker build -q --target cds -t "$IMAGE_NAME:cds" . > /dev/null
+
+if [[ -n "$MODELS_DIR" ]]; then
+    MODEL_ARGS=(-v "$MODELS_DIR:/app/models:ro" -e NLP_FALLBACK_ENABLED=false)
+else
+    MODEL_ARGS=(-e NLP_FALLBACK_ENABLED=true)
+fi
+
+for variant in runtime cds; do
+    # The cds image names its archive in its entrypoint, which is replaced here
+    CDS_OPTS=""
+    if [[ "$variant" == "cds" ]]; then
+        CDS_OPTS="-XX:SharedArchiveFile=/app/app.jsa"
+    fi
+    for run in $(seq 1 "$RUNS"); do
+        report=$(docker run --rm "${MODEL_ARGS[@]}" \
+            -v "$PROJECT_DIR/test-data:/app/test-data:ro" \
+            --entrypoint sh "$IMAGE_NAME:$variant" -c \
+            "exec java $CDS_OPTS \$JAVA_OPTS @/app/classpath.args com.example.numaflow.standalone.StartupTrainingRun /app/test-data/sample-events.json $ROUNDS" \
+            2>&1 | grep "Startup report" | sed 's/.*Startup report: //')
+        echo "$variant run $run: $report"
+    done
+done
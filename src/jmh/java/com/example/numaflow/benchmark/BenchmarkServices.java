@@ -0,0 +1,42 @@
+package com.example.numaflow.benchmark;
+
+import com.example.numaflow.nlp.NlpModelLoader;
+import com.example.numaflow.nlp.NlpModels;
+import com.example.numaflow.service.NlpEnrichmentService;
+
+import java.io.IOException;
+
+/**
+ * Creates the services under benchmark, the way the standalone UDF does but without the entity cache,
+ * so every invocation runs the NLP engines instead of returning cached sentences.
+ */
+final class BenchmarkServices {
+
+    /**
+     * Engine setting that loads the OpenNLP models from {@code nlp.models.dir}.
+     */
+    static final String MODEL = "model";
+
+    /**
+     * Engine setting that runs without models, on the rule-based fallbacks.
+     */
+    static final String FALLBACK = "fallback";
+
+    private BenchmarkServices() {
+    }
+
+    /**
+     * @param engine {@link #MODEL} or {@link #FALLBACK}
+     * @throws IOException if the models cannot be loaded
+     */
+    static NlpEnrichmentService nlpService(String engine) throws IOException {
+        NlpEnrichmentService nlpService = new NlpEnrichmentService(NlpModels.empty());
+        if (MODEL.equals(engine)) {
+            // Fails rather than silently benchmarking the fallback when a model is missing
+            nlpService.loadModels(NlpModelLoader.fromEnvironment().fallbackEnabled(false));
+        } else if (!FALLBACK.equals(engine)) {
+            throw new IllegalArgumentException("Unknown engine: " + engine);
+        }
+        return nlpService;
+    }
+}
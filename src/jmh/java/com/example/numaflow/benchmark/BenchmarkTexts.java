@@ -0,0 +1,136 @@
+package com.example.numaflow.benchmark;
+
+import com.example.numaflow.model.Event;
+import com.example.numaflow.service.TestDataGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Benchmark inputs of a given length and entity density.
+ * <p>
+ * Entity-rich passages come from the descriptions in {@code test-data/sample-events.json} (or the file
+ * named by the {@code benchmark.events} system property) and the {@link TestDataGenerator} templates;
+ * entity-free passages are filler sentences shaped like the generator's random sentences. A text is
+ * built by repeating passages in a fixed order until it reaches the requested length, so every fork
+ * of a benchmark sees the same input.
+ */
+public final class BenchmarkTexts {
+
+    /**
+     * Share of named entities in the generated text.
+     */
+    public enum Density {
+        /** Filler sentences only. */
+        NONE,
+        /** One entity-rich passage for every three filler sentences. */
+        SPARSE,
+        /** Entity-rich passages only. */
+        DENSE
+    }
+
+    private static final String EVENTS_FILE = "test-data/sample-events.json";
+
+    private static final int FILLER_PER_PASSAGE = 3;
+
+    private static final List<String> FILLER = List.of(
+        "The company announced significant progress in this field.",
+        "Researchers discovered breakthrough results for the industry.",
+        "The team developed innovative solutions with global impact.",
+        "Industry experts revealed new capabilities through collaboration.",
+        "Analysts demonstrated advanced technology using cutting-edge methods.",
+        "The organization achieved important findings ahead of schedule."
+    );
+
+    private static final List<String> PASSAGES = loadPassages();
+
+    private BenchmarkTexts() {
+    }
+
+    /**
+     * Returns a text of about {@code length} characters, cut at the last word boundary before it.
+     */
+    public static String text(int length, Density density) {
+        StringBuilder text = new StringBuilder(length + 256);
+        int passage = 0;
+        int filler = 0;
+        while (text.length() < length) {
+            boolean rich = switch (density) {
+                case NONE -> false;
+                case DENSE -> true;
+                case SPARSE -> (passage + filler) % (FILLER_PER_PASSAGE + 1) == 0;
+            };
+            String sentence = rich
+                ? PASSAGES.get(passage++ % PASSAGES.size())
+                : FILLER.get(filler++ % FILLER.size());
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append(sentence);
+        }
+        if (text.length() > length) {
+            int cut = text.lastIndexOf(" ", length);
+            text.setLength(cut > 0 ? cut : length);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns an event whose content is {@link #text(int, Density)} and whose title and description
+     * are short, like the generated test events.
+     */
+    public static Event event(int length, Density density) {
+        Event event = new Event();
+        event.setId("benchmark-" + length + "-" + density.name().toLowerCase());
+        event.setTimestamp(Instant.parse("2024-01-15T10:00:00Z"));
+        event.setTitle(text(80, density));
+        event.setDescription(text(200, density));
+        event.setContent(text(length, density));
+        event.setMetadata(Map.of("eventType", "Benchmark"));
+        return event;
+    }
+
+    private static List<String> loadPassages() {
+        // Sorted so that the order does not depend on which templates the generator happened to pick
+        TreeSet<String> templates = new TreeSet<>();
+        for (Event event : new TestDataGenerator().generateTestEvents(200)) {
+            templates.add(event.getContent());
+        }
+        List<String> passages = new ArrayList<>(readSampleDescriptions());
+        passages.addAll(templates);
+        return List.copyOf(passages);
+    }
+
+    private static List<String> readSampleDescriptions() {
+        Path path = Path.of(System.getProperty("benchmark.events", EVENTS_FILE));
+        if (!Files.isRegularFile(path)) {
+            return List.of();
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> descriptions = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode description = objectMapper.readTree(line).get("description");
+                if (description != null && description.isTextual()) {
+                    descriptions.add(description.asText());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read benchmark events from " + path, e);
+        }
+        return descriptions;
+    }
+}
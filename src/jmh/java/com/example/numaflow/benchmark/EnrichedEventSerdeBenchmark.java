@@ -0,0 +1,76 @@
+package com.example.numaflow.benchmark;
+
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.model.EnrichedEvent;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization and deserialization of an {@link EnrichedEvent} with the wire mapper, with and
+ * without the original text copied into every segment and entity.
+ * <p>
+ * The event is enriched once in setup with the rule-based fallback; the shape of the output, not the
+ * engine that produced it, is what matters here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnrichedEventSerdeBenchmark {
+
+    @Param({"256", "4096", "65536"})
+    public int textLength;
+
+    @Param({"NONE", "SPARSE", "DENSE"})
+    public BenchmarkTexts.Density density;
+
+    @Param({"true", "false"})
+    public boolean includeOriginalText;
+
+    private ObjectMapper objectMapper;
+    private EnrichedEvent enrichedEvent;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = JsonMappers.wire(includeOriginalText);
+        NlpEnrichmentService nlpService = BenchmarkServices.nlpService(BenchmarkServices.FALLBACK);
+        EventEnrichmentService enrichmentService =
+            new EventEnrichmentService(nlpService, ProcessingProperties.fromEnvironment());
+        try {
+            enrichedEvent = enrichmentService.enrichEvent(BenchmarkTexts.event(textLength, density));
+        } finally {
+            enrichmentService.shutdown();
+            nlpService.shutdown();
+        }
+        json = objectMapper.writeValueAsBytes(enrichedEvent);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(enrichedEvent);
+    }
+
+    @Benchmark
+    public EnrichedEvent deserialize() throws IOException {
+        return objectMapper.readValue(json, EnrichedEvent.class);
+    }
+}
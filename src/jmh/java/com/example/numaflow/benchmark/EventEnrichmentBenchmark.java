@@ -0,0 +1,112 @@
+package com.example.numaflow.benchmark;
+
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.model.EnrichedEvent;
+import com.example.numaflow.model.Event;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.example.numaflow.vertex.EnrichmentVertex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.numaproj.numaflow.mapper.Datum;
+import io.numaproj.numaflow.mapper.MessageList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enrichment of a whole event: {@link EventEnrichmentService#enrichEvent(Event)} on its own, and
+ * {@link EnrichmentVertex#processMessage(String[], Datum)} end to end from the wire bytes of the event
+ * to the serialized output message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventEnrichmentBenchmark {
+
+    private static final String[] KEYS = {"benchmark"};
+
+    @Param({"256", "4096", "65536"})
+    public int textLength;
+
+    @Param({"NONE", "SPARSE", "DENSE"})
+    public BenchmarkTexts.Density density;
+
+    @Param({BenchmarkServices.MODEL, BenchmarkServices.FALLBACK})
+    public String engine;
+
+    private NlpEnrichmentService nlpService;
+    private EventEnrichmentService enrichmentService;
+    private EnrichmentVertex vertex;
+    private Event event;
+    private Datum datum;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = JsonMappers.wire(true);
+        nlpService = BenchmarkServices.nlpService(engine);
+        enrichmentService = new EventEnrichmentService(nlpService, ProcessingProperties.fromEnvironment());
+        vertex = new EnrichmentVertex(enrichmentService, objectMapper);
+        event = BenchmarkTexts.event(textLength, density);
+        datum = new EventDatum(objectMapper.writeValueAsBytes(event));
+    }
+
+    @TearDown
+    public void tearDown() {
+        enrichmentService.shutdown();
+        nlpService.shutdown();
+    }
+
+    @Benchmark
+    public EnrichedEvent enrichEvent() {
+        return enrichmentService.enrichEvent(event);
+    }
+
+    @Benchmark
+    public MessageList processMessage() {
+        return vertex.processMessage(KEYS, datum);
+    }
+
+    /**
+     * Datum carrying the serialized benchmark event.
+     */
+    private record EventDatum(byte[] value) implements Datum {
+
+        @Override
+        public byte[] getValue() {
+            return value;
+        }
+
+        @Override
+        public Instant getEventTime() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public Instant getWatermark() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            return Map.of();
+        }
+    }
+}
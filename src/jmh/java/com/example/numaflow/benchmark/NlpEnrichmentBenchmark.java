@@ -0,0 +1,61 @@
+package com.example.numaflow.benchmark;
+
+import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.service.NlpEnrichmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sentence segmentation, tokenization and entity recognition of a single text by
+ * {@link NlpEnrichmentService#enrichText(String)}, with the OpenNLP models and with the rule-based fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NlpEnrichmentBenchmark {
+
+    @Param({"256", "4096", "65536"})
+    public int textLength;
+
+    @Param({"NONE", "SPARSE", "DENSE"})
+    public BenchmarkTexts.Density density;
+
+    @Param({BenchmarkServices.MODEL, BenchmarkServices.FALLBACK})
+    public String engine;
+
+    private NlpEnrichmentService nlpService;
+    private String text;
+
+    @Setup
+    public void setUp() throws IOException {
+        nlpService = BenchmarkServices.nlpService(engine);
+        text = BenchmarkTexts.text(textLength, density);
+    }
+
+    @TearDown
+    public void tearDown() {
+        nlpService.shutdown();
+    }
+
+    @Benchmark
+    public List<TextSegment> enrichText() {
+        return nlpService.enrichText(text);
+    }
+}
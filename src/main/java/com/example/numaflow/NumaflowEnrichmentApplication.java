@@ -1,5 +1,6 @@
 package com.example.numaflow;
 
+import com.example.numaflow.vertex.EnrichmentBatchVertex;
 import com.example.numaflow.vertex.EnrichmentVertex;
 import io.numaproj.numaflow.mapper.Mapper;
 import io.numaproj.numaflow.mapper.Server;
@@ -31,25 +32,22 @@ public class NumaflowEnrichmentApplication {
             logger.info("Spring Boot context started successfully");
             logger.info("EnrichmentVertex Mapper initialized: {}", enrichmentVertex != null ? "Yes" : "No");
             
-            // Start Numaflow gRPC UDF server
-            logger.info("Starting Numaflow UDF gRPC server...");
+            // Start Numaflow gRPC UDF server, either per datum (map) or per read batch (batch)
+            String mapMode = context.getEnvironment().getProperty("app.udf.map-mode", "map");
+            logger.info("Starting Numaflow UDF gRPC server in {} mode...", mapMode);
             
-            Server numaflowServer = new Server((Mapper) enrichmentVertex);
-            
-            // Add shutdown hook for graceful termination
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                logger.info("Shutting down Numaflow UDF server...");
-                try {
-                    numaflowServer.stop();
-                    context.close();
-                    logger.info("Application shut down gracefully");
-                } catch (Exception e) {
-                    logger.error("Error during shutdown", e);
-                }
-            }));
-            
-            // Start the Numaflow server (this will block)
-            numaflowServer.start();
+            if ("batch".equalsIgnoreCase(mapMode)) {
+                io.numaproj.numaflow.batchmapper.Server batchServer =
+                    new io.numaproj.numaflow.batchmapper.Server(context.getBean(EnrichmentBatchVertex.class));
+                addShutdownHook(context, batchServer::stop);
+                batchServer.start();
+            } else {
+                Server numaflowServer = new Server((Mapper) enrichmentVertex);
+                addShutdownHook(context, numaflowServer::stop);
+                
+                // Start the Numaflow server (this will block)
+                numaflowServer.start();
+            }
             
             logger.info("Numaflow UDF gRPC server started and ready to process messages");
             
@@ -58,4 +56,26 @@ public class NumaflowEnrichmentApplication {
             System.exit(1);
         }
     }
+    
+    private static void addShutdownHook(ConfigurableApplicationContext context, ServerStop serverStop) {
+        // Add shutdown hook for graceful termination
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("Shutting down Numaflow UDF server...");
+            try {
+                serverStop.stop();
+                context.close();
+                logger.info("Application shut down gracefully");
+            } catch (Exception e) {
+                logger.error("Error during shutdown", e);
+            }
+        }));
+    }
+    
+    /**
+     * Stop operation of one of the Numaflow SDK servers.
+     */
+    @FunctionalInterface
+    private interface ServerStop {
+        void stop() throws Exception;
+    }
 }
@@ -1,54 +1,110 @@
 package com.example.numaflow.config;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.example.numaflow.metrics.EnrichmentMetrics;
+import com.example.numaflow.nlp.EntityCache;
+import com.example.numaflow.nlp.NlpModels;
+import com.example.numaflow.service.NlpEnrichmentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Spring configuration for the Numaflow enrichment application.
  */
 @Configuration
+@EnableConfigurationProperties({ProcessingProperties.class, NlpEngineProperties.class, UdfHttpProperties.class})
 public class ApplicationConfig {
     
     /**
      * Configure ObjectMapper for JSON serialization/deserialization.
+     * Produces indented output, for the debug and test endpoints.
      */
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        
-        // Register Java Time module for proper Instant handling
-        mapper.registerModule(new JavaTimeModule());
-        
-        // Configure serialization
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
-        
-        // Configure deserialization
-        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-        mapper.enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
-        
-        return mapper;
+        return JsonMappers.pretty();
+    }
+    
+    /**
+     * ObjectMapper for the Numaflow vertex and sink path, compact with {@code app.output.compact}.
+     * Fails the startup when offsets-only output is combined with leaving out the original text.
+     */
+    @Bean
+    public ObjectMapper wireObjectMapper(
+            @Value("${app.output.include-original-text:true}") boolean includeOriginalText,
+            @Value("${app.nlp.offsets-only:false}") boolean offsetsOnly,
+            @Value("${app.output.compact:false}") boolean compact) {
+        return JsonMappers.wire(includeOriginalText, offsetsOnly, compact);
+    }
+    
+    /**
+     * Bounded pool the {@code /udf/enrich} endpoint enriches on. Requests arrive on virtual threads; a
+     * full queue rejects the task, which the endpoint answers with 429.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService udfEnrichmentExecutor(UdfHttpProperties properties) {
+        return new ThreadPoolExecutor(
+            properties.getMaxConcurrency(), properties.getMaxConcurrency(),
+            0L, TimeUnit.MILLISECONDS,
+            properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity()) : new SynchronousQueue<>(),
+            Thread.ofPlatform().name("udf-enrich-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+    
+    /**
+     * Per-stage timers and segment and entity counters of the enrichment pipeline.
+     */
+    @Bean
+    public EnrichmentMetrics enrichmentMetrics(MeterRegistry meterRegistry) {
+        return new EnrichmentMetrics(meterRegistry);
+    }
+    
+    /**
+     * Publishes size, hit, miss and eviction metrics of the sentence entity cache.
+     */
+    @Bean
+    public MeterBinder nlpEntityCacheMetrics(NlpEnrichmentService nlpService) {
+        return registry -> {
+            EntityCache cache = nlpService.getEntityCache();
+            if (cache != null) {
+                CaffeineCacheMetrics.monitor(registry, cache.getCache(), EntityCache.METRICS_NAME);
+            }
+        };
     }
     
     /**
-     * Custom health indicator for NLP models.
+     * Custom health indicator for NLP models. It is part of the readiness group, so a replica only
+     * takes traffic once its models are loaded (or, with serve-while-loading, its sentence model).
      */
     @Bean
-    public HealthIndicator nlpHealthIndicator() {
+    public HealthIndicator nlpHealthIndicator(NlpEnrichmentService nlpService) {
         return () -> {
             try {
-                // Here you would check if NLP models are loaded and functional
-                // For now, we'll return a simple health check
+                NlpModels models = nlpService.getModels();
+                if (!nlpService.isReady()) {
+                    return Health.outOfService()
+                        .withDetail("nlp-models", models.toString())
+                        .withDetail("loading", nlpService.isLoadingModels())
+                        .build();
+                }
                 return Health.up()
-                    .withDetail("nlp-models", "OpenNLP models initialized")
+                    .withDetail("nlp-models", models.toString())
                     .withDetail("fallback-enabled", true)
                     .build();
             } catch (Exception e) {
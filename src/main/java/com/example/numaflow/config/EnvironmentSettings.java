@@ -0,0 +1,66 @@
+package com.example.numaflow.config;
+
+/**
+ * Reads settings for code paths that run without Spring, such as the standalone UDF.
+ * <p>
+ * A setting is looked up as a system property first and then as the matching environment variable,
+ * where {@code app.processing.timeout-ms} becomes {@code APP_PROCESSING_TIMEOUT_MS}.
+ */
+public final class EnvironmentSettings {
+
+    private EnvironmentSettings() {
+    }
+
+    public static String get(String property, String defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(toEnvironmentName(property));
+        }
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String property, int defaultValue) {
+        String value = get(property, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + property + " must be an integer but was '" + value + "'", e);
+        }
+    }
+
+    public static long getLong(String property, long defaultValue) {
+        String value = get(property, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + property + " must be an integer but was '" + value + "'", e);
+        }
+    }
+
+    public static double getDouble(String property, double defaultValue) {
+        String value = get(property, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Setting " + property + " must be a number but was '" + value + "'", e);
+        }
+    }
+
+    public static boolean getBoolean(String property, boolean defaultValue) {
+        String value = get(property, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    static String toEnvironmentName(String property) {
+        return property.toUpperCase().replace('.', '_').replace('-', '_');
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.numaflow.config;
+
+import com.example.numaflow.model.EnrichedEvent;
+import com.example.numaflow.model.Event;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Factory for the JSON mappers used by the application, shared by the Spring configuration
+ * and the standalone UDF.
+ */
+public final class JsonMappers {
+
+    private JsonMappers() {
+    }
+
+    /**
+     * Mapper with indented output, for the debug and test endpoints.
+     */
+    public static ObjectMapper pretty() {
+        ObjectMapper mapper = base();
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        return mapper;
+    }
+
+    /**
+     * Compact mapper for the vertex and sink path, where every output byte goes to Kafka.
+     * Null values and the derived {@code allTextSegments} / {@code allNamedEntities} lists of
+     * {@link EnrichedEvent}, which repeat the content of {@code enrichedFields}, are not written.
+     * See {@link #wire(boolean, boolean, boolean)} for the full output schema.
+     *
+     * @param includeOriginalText whether the text fields of the original event are echoed in the output;
+     *                            when {@code false} only its id, timestamp and metadata are written, since the
+     *                            text is already carried by the enriched segments
+     */
+    public static ObjectMapper wire(boolean includeOriginalText) {
+        return wire(includeOriginalText, false, true);
+    }
+
+    /**
+     * Mapper for the vertex and sink path, without indentation.
+     *
+     * @param includeOriginalText whether the text fields of the original event are echoed in the output
+     * @param offsetsOnly whether the enriched segments and entities carry only offsets into the original event
+     * @param compact whether null values and the derived {@code allTextSegments} / {@code allNamedEntities}
+     *                lists are left out; when {@code false} the output keeps the full {@link EnrichedEvent} schema
+     * @throws IllegalArgumentException if the output would carry offsets only and no original text, so the
+     *                                  text of the segments and entities could not be recovered
+     */
+    public static ObjectMapper wire(boolean includeOriginalText, boolean offsetsOnly, boolean compact) {
+        if (offsetsOnly && !includeOriginalText) {
+            throw new IllegalArgumentException("app.nlp.offsets-only=true requires app.output.include-original-text=true: " +
+                "offsets-only segments and entities are resolved against the text of originalEvent");
+        }
+        ObjectMapper mapper = base();
+        mapper.disable(SerializationFeature.INDENT_OUTPUT);
+        if (compact) {
+            mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            mapper.addMixIn(EnrichedEvent.class, EnrichedEventWithoutDerivedListsMixIn.class);
+        }
+        if (!includeOriginalText) {
+            mapper.addMixIn(Event.class, EventWithoutTextMixIn.class);
+        }
+        return mapper;
+    }
+
+    private static ObjectMapper base() {
+        ObjectMapper mapper = new ObjectMapper();
+
+        // Register Java Time module for proper Instant handling
+        mapper.registerModule(new JavaTimeModule());
+
+        // Configure serialization
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // Configure deserialization
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT);
+
+        return mapper;
+    }
+
+    /**
+     * Leaves the text fields of the original event out of the output; they are still read on input.
+     */
+    @JsonIgnoreProperties(value = {"title", "description", "content", "summary"}, allowSetters = true)
+    private abstract static class EventWithoutTextMixIn {
+    }
+
+    /**
+     * Leaves out the lists derived from {@code enrichedFields}.
+     */
+    @JsonIgnoreProperties(value = {"allTextSegments", "allNamedEntities"}, ignoreUnknown = true)
+    private abstract static class EnrichedEventWithoutDerivedListsMixIn {
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.numaflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selection of the NLP engines bound from {@code app.nlp}, globally and per event field.
+ * <p>
+ * Engines are named {@value #OPENNLP} (the OpenNLP models, falling back to the rule-based engine
+ * while a model is not loaded) and {@value #RULE_BASED} (no model, cheapest); entity recognizers can
+ * also be {@value #DICTIONARY}, the names listed in the {@code app.nlp.gazetteer} file. A field without its own
+ * entry under {@code app.nlp.fields} uses the global engines, and so does every setting a field entry
+ * leaves out. The standalone UDF reads the same settings from the environment via {@link #fromEnvironment()}.
+ */
+@ConfigurationProperties(prefix = "app.nlp")
+public class NlpEngineProperties {
+
+    public static final String OPENNLP = "opennlp";
+    public static final String RULE_BASED = "rule-based";
+    public static final String DICTIONARY = "dictionary";
+
+    private static final String PREFIX = "app.nlp.";
+    private static final List<String> EVENT_FIELDS = List.of("title", "description", "content", "summary");
+
+    /**
+     * Sentence segmenter used for fields without their own setting.
+     */
+    private String sentenceSegmenter = OPENNLP;
+
+    /**
+     * Tokenizer used for fields without their own setting.
+     */
+    private String tokenizer = OPENNLP;
+
+    /**
+     * Entity recognizers used for fields without their own setting; their results are combined.
+     */
+    private List<String> entityRecognizers = new ArrayList<>(List.of(OPENNLP));
+
+    /**
+     * Engine overrides keyed by event field name ({@code title}, {@code description}, ...).
+     */
+    private Map<String, FieldEngines> fields = new LinkedHashMap<>();
+
+    /**
+     * Dictionary used by the {@value #DICTIONARY} entity recognizer.
+     */
+    private GazetteerSettings gazetteer = new GazetteerSettings();
+
+    /**
+     * Creates properties from system properties and environment variables, for use without Spring.
+     */
+    public static NlpEngineProperties fromEnvironment() {
+        NlpEngineProperties properties = new NlpEngineProperties();
+        properties.setSentenceSegmenter(
+            EnvironmentSettings.get(PREFIX + "sentence-segmenter", properties.getSentenceSegmenter()));
+        properties.setTokenizer(EnvironmentSettings.get(PREFIX + "tokenizer", properties.getTokenizer()));
+        properties.setEntityRecognizers(
+            list(EnvironmentSettings.get(PREFIX + "entity-recognizers", null), properties.getEntityRecognizers()));
+
+        GazetteerSettings gazetteer = properties.getGazetteer();
+        gazetteer.setPath(EnvironmentSettings.get(PREFIX + "gazetteer.path", gazetteer.getPath()));
+        gazetteer.setMode(EnvironmentSettings.get(PREFIX + "gazetteer.mode", gazetteer.getMode()));
+        gazetteer.setIgnoreCase(EnvironmentSettings.getBoolean(PREFIX + "gazetteer.ignore-case", gazetteer.isIgnoreCase()));
+        gazetteer.setReloadIntervalMs(
+            EnvironmentSettings.getLong(PREFIX + "gazetteer.reload-interval-ms", gazetteer.getReloadIntervalMs()));
+
+        for (String field : EVENT_FIELDS) {
+            String fieldPrefix = PREFIX + "fields." + field + ".";
+            FieldEngines engines = new FieldEngines();
+            engines.setSentenceSegmenter(EnvironmentSettings.get(fieldPrefix + "sentence-segmenter", null));
+            engines.setTokenizer(EnvironmentSettings.get(fieldPrefix + "tokenizer", null));
+            engines.setEntityRecognizers(list(EnvironmentSettings.get(fieldPrefix + "entity-recognizers", null), null));
+            if (!engines.isEmpty()) {
+                properties.getFields().put(field, engines);
+            }
+        }
+        return properties;
+    }
+
+    private static List<String> list(String value, List<String> defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .toList();
+    }
+
+    public String getSentenceSegmenter() {
+        return sentenceSegmenter;
+    }
+
+    public void setSentenceSegmenter(String sentenceSegmenter) {
+        this.sentenceSegmenter = sentenceSegmenter;
+    }
+
+    public String getTokenizer() {
+        return tokenizer;
+    }
+
+    public void setTokenizer(String tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public List<String> getEntityRecognizers() {
+        return entityRecognizers;
+    }
+
+    public void setEntityRecognizers(List<String> entityRecognizers) {
+        this.entityRecognizers = entityRecognizers;
+    }
+
+    public Map<String, FieldEngines> getFields() {
+        return fields;
+    }
+
+    public void setFields(Map<String, FieldEngines> fields) {
+        this.fields = fields != null ? fields : new LinkedHashMap<>();
+    }
+
+    public GazetteerSettings getGazetteer() {
+        return gazetteer;
+    }
+
+    public void setGazetteer(GazetteerSettings gazetteer) {
+        this.gazetteer = gazetteer;
+    }
+
+    /**
+     * Engines of one field; {@code null} settings use the global engines.
+     */
+    public static class FieldEngines {
+
+        private String sentenceSegmenter;
+        private String tokenizer;
+        private List<String> entityRecognizers;
+
+        boolean isEmpty() {
+            return sentenceSegmenter == null && tokenizer == null && entityRecognizers == null;
+        }
+
+        public String getSentenceSegmenter() {
+            return sentenceSegmenter;
+        }
+
+        public void setSentenceSegmenter(String sentenceSegmenter) {
+            this.sentenceSegmenter = sentenceSegmenter;
+        }
+
+        public String getTokenizer() {
+            return tokenizer;
+        }
+
+        public void setTokenizer(String tokenizer) {
+            this.tokenizer = tokenizer;
+        }
+
+        public List<String> getEntityRecognizers() {
+            return entityRecognizers;
+        }
+
+        public void setEntityRecognizers(List<String> entityRecognizers) {
+            this.entityRecognizers = entityRecognizers;
+        }
+    }
+
+    /**
+     * Dictionary file of the {@value #DICTIONARY} entity recognizer.
+     */
+    public static class GazetteerSettings {
+
+        /**
+         * Path of the dictionary file, one {@code TYPE<TAB>name} entry per line.
+         */
+        private String path;
+
+        /**
+         * {@code augment}: later recognizers add the entities not overlapping dictionary hits;
+         * {@code short-circuit}: later recognizers are skipped for sentences with dictionary hits.
+         */
+        private String mode = "augment";
+
+        private boolean ignoreCase;
+
+        /**
+         * How often the file is checked for changes and reloaded; 0 disables reloading.
+         */
+        private long reloadIntervalMs = 30000;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+
+        public void setMode(String mode) {
+            this.mode = mode;
+        }
+
+        public boolean isIgnoreCase() {
+            return ignoreCase;
+        }
+
+        public void setIgnoreCase(boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+        }
+
+        public long getReloadIntervalMs() {
+            return reloadIntervalMs;
+        }
+
+        public void setReloadIntervalMs(long reloadIntervalMs) {
+            this.reloadIntervalMs = reloadIntervalMs;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.numaflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Event processing settings bound from {@code app.processing}.
+ * The standalone UDF reads the same settings from the environment via {@link #fromEnvironment()}.
+ */
+@ConfigurationProperties(prefix = "app.processing")
+public class ProcessingProperties {
+
+    private static final String PREFIX = "app.processing.";
+
+    /**
+     * Maximum number of events processed in one batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Timeout for processing a single event, in milliseconds.
+     */
+    private long timeoutMs = 30000;
+
+    /**
+     * Number of worker threads used to enrich fields and sentences of an event in parallel.
+     * A value of 1 processes everything on the calling thread.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Events whose text fields are shorter than this many characters in total are enriched
+     * on the calling thread, since forking would cost more than it saves.
+     */
+    private int parallelThresholdChars = 2048;
+
+    /**
+     * Events with a text field at least this many characters long are enriched in streaming mode by the
+     * mappers: sentence by sentence, written straight to the output JSON. A value of 0 disables streaming.
+     */
+    private int streamingThresholdChars = 1024 * 1024;
+
+    /**
+     * Stepping down to cheaper enrichment tiers when events take longer than the latency budget.
+     */
+    private DegradationSettings degradation = new DegradationSettings();
+
+    /**
+     * Creates properties from system properties and environment variables, for use without Spring.
+     */
+    public static ProcessingProperties fromEnvironment() {
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setBatchSize(EnvironmentSettings.getInt(PREFIX + "batch-size", properties.getBatchSize()));
+        properties.setTimeoutMs(EnvironmentSettings.getLong(PREFIX + "timeout-ms", properties.getTimeoutMs()));
+        properties.setParallelism(EnvironmentSettings.getInt(PREFIX + "parallelism", properties.getParallelism()));
+        properties.setParallelThresholdChars(
+            EnvironmentSettings.getInt(PREFIX + "parallel-threshold-chars", properties.getParallelThresholdChars()));
+        properties.setStreamingThresholdChars(
+            EnvironmentSettings.getInt(PREFIX + "streaming-threshold-chars", properties.getStreamingThresholdChars()));
+
+        DegradationSettings degradation = properties.getDegradation();
+        degradation.setEnabled(EnvironmentSettings.getBoolean(PREFIX + "degradation.enabled", degradation.isEnabled()));
+        degradation.setLatencyBudgetMs(
+            EnvironmentSettings.getLong(PREFIX + "degradation.latency-budget-ms", degradation.getLatencyBudgetMs()));
+        degradation.setBudgetEventChars(
+            EnvironmentSettings.getInt(PREFIX + "degradation.budget-event-chars", degradation.getBudgetEventChars()));
+        degradation.setMaxQueueDepth(
+            EnvironmentSettings.getInt(PREFIX + "degradation.max-queue-depth", degradation.getMaxQueueDepth()));
+        degradation.setStepDownIntervalMs(
+            EnvironmentSettings.getLong(PREFIX + "degradation.step-down-interval-ms", degradation.getStepDownIntervalMs()));
+        degradation.setStepUpIntervalMs(
+            EnvironmentSettings.getLong(PREFIX + "degradation.step-up-interval-ms", degradation.getStepUpIntervalMs()));
+        degradation.setRecoveryRatio(
+            EnvironmentSettings.getDouble(PREFIX + "degradation.recovery-ratio", degradation.getRecoveryRatio()));
+        return properties;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelThresholdChars() {
+        return parallelThresholdChars;
+    }
+
+    public void setParallelThresholdChars(int parallelThresholdChars) {
+        this.parallelThresholdChars = parallelThresholdChars;
+    }
+
+    public int getStreamingThresholdChars() {
+        return streamingThresholdChars;
+    }
+
+    public void setStreamingThresholdChars(int streamingThresholdChars) {
+        this.streamingThresholdChars = streamingThresholdChars;
+    }
+
+    public DegradationSettings getDegradation() {
+        return degradation;
+    }
+
+    public void setDegradation(DegradationSettings degradation) {
+        this.degradation = degradation;
+    }
+
+    /**
+     * Latency budget of the adaptive enrichment tiers. Under pressure, when the rolling per-event latency
+     * exceeds the budget or too many events wait to be enriched, enrichment steps down one tier at a time;
+     * it steps back up once both are well within their limits again.
+     */
+    public static class DegradationSettings {
+
+        private boolean enabled;
+
+        /**
+         * Budget for the rolling average enrichment latency of an event, in milliseconds.
+         */
+        private long latencyBudgetMs = 200;
+
+        /**
+         * Size, in characters of text, of the events the latency budget is for. The latency of a longer
+         * event is scaled down to this size before it is averaged, so a few large documents do not step
+         * every event after them down.
+         */
+        private int budgetEventChars = 4096;
+
+        /**
+         * Budget for the rolling average number of events being enriched or waiting in a batch.
+         */
+        private int maxQueueDepth = 64;
+
+        /**
+         * Minimum time between a tier change and the next step down.
+         */
+        private long stepDownIntervalMs = 1000;
+
+        /**
+         * Minimum time between a tier change and the next step up; longer than the step down interval,
+         * so a burst is not re-entered at full cost as soon as it eases.
+         */
+        private long stepUpIntervalMs = 10000;
+
+        /**
+         * Fraction of both budgets that latency and queue depth must be under to step up.
+         */
+        private double recoveryRatio = 0.5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getLatencyBudgetMs() {
+            return latencyBudgetMs;
+        }
+
+        public void setLatencyBudgetMs(long latencyBudgetMs) {
+            this.latencyBudgetMs = latencyBudgetMs;
+        }
+
+        public int getBudgetEventChars() {
+            return budgetEventChars;
+        }
+
+        public void setBudgetEventChars(int budgetEventChars) {
+            this.budgetEventChars = budgetEventChars;
+        }
+
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        public void setMaxQueueDepth(int maxQueueDepth) {
+            this.maxQueueDepth = maxQueueDepth;
+        }
+
+        public long getStepDownIntervalMs() {
+            return stepDownIntervalMs;
+        }
+
+        public void setStepDownIntervalMs(long stepDownIntervalMs) {
+            this.stepDownIntervalMs = stepDownIntervalMs;
+        }
+
+        public long getStepUpIntervalMs() {
+            return stepUpIntervalMs;
+        }
+
+        public void setStepUpIntervalMs(long stepUpIntervalMs) {
+            this.stepUpIntervalMs = stepUpIntervalMs;
+        }
+
+        public double getRecoveryRatio() {
+            return recoveryRatio;
+        }
+
+        public void setRecoveryRatio(double recoveryRatio) {
+            this.recoveryRatio = recoveryRatio;
+        }
+    }
+}
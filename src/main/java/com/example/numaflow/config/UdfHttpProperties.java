@@ -0,0 +1,66 @@
+package com.example.numaflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Admission settings of the {@code /udf/enrich} HTTP endpoint, bound from {@code app.udf.http}.
+ * <p>
+ * Requests are accepted on virtual threads and enriched on a bounded pool of {@link #maxConcurrency}
+ * threads with room for {@link #queueCapacity} waiting requests. Requests beyond that are rejected with
+ * 429, and a request not enriched within {@link #deadlineMs} of its arrival is answered with 504.
+ */
+@ConfigurationProperties(prefix = "app.udf.http")
+public class UdfHttpProperties {
+
+    /**
+     * Number of requests enriched at the same time; enrichment is CPU-bound.
+     */
+    private int maxConcurrency = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of requests that may wait for an enrichment thread.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Time a request may take, waiting included, before it is answered with 504, in milliseconds.
+     */
+    private long deadlineMs = 5000;
+
+    /**
+     * Value of the {@code Retry-After} header of 429 responses, in seconds.
+     */
+    private int retryAfterSeconds = 1;
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getDeadlineMs() {
+        return deadlineMs;
+    }
+
+    public void setDeadlineMs(long deadlineMs) {
+        this.deadlineMs = deadlineMs;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(int retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,15 +1,37 @@
 package com.example.numaflow.controller;
 
+import com.example.numaflow.config.UdfHttpProperties;
+import com.example.numaflow.service.EnrichmentTimeoutException;
 import com.example.numaflow.vertex.EnrichmentVertex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * REST controller that exposes the enrichment functionality as HTTP endpoints for Numaflow.
  * Numaflow can call these endpoints to process events instead of using Kafka directly.
+ * <p>
+ * Requests are served on virtual threads ({@code spring.threads.virtual.enabled}), which only wait for
+ * the bounded enrichment executor (see {@link UdfHttpProperties}). When the executor is saturated, a
+ * request is answered right away with 429 and a {@code Retry-After} header rather than queued by the
+ * server, and a request not enriched by its deadline is answered with 504. The deadline is passed down
+ * to the enrichment, which stops at its next field or sentence past it, so a timed-out request frees
+ * its executor thread instead of finishing work nobody reads.
  */
 @RestController
 @RequestMapping("/udf")
@@ -18,40 +40,63 @@ public class UdfController {
     private static final Logger logger = LoggerFactory.getLogger(UdfController.class);
 
     private final EnrichmentVertex enrichmentVertex;
+    private final ExecutorService enrichmentExecutor;
+    private final UdfHttpProperties properties;
+    private final ObjectMapper objectMapper;
 
-    public UdfController(EnrichmentVertex enrichmentVertex) {
+    public UdfController(EnrichmentVertex enrichmentVertex,
+                         @Qualifier("udfEnrichmentExecutor") ExecutorService enrichmentExecutor,
+                         UdfHttpProperties properties,
+                         @Qualifier("wireObjectMapper") ObjectMapper objectMapper) {
         this.enrichmentVertex = enrichmentVertex;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Main UDF endpoint for processing events.
      * Accepts JSON event payload and returns enriched JSON result.
      */
-    @PostMapping(value = "/enrich", 
+    @PostMapping(value = "/enrich",
                 consumes = MediaType.APPLICATION_JSON_VALUE,
                 produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<String> enrichEvent(@RequestBody String eventJson) {
+        logger.debug("Received UDF request for event enrichment");
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getDeadlineMs());
+        Future<String> result;
+        try {
+            result = enrichmentExecutor.submit(() -> enrichmentVertex.processEvent(eventJson, deadlineNanos));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Rejected UDF enrichment request: enrichment executor is saturated");
+            return error(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds())),
+                "OVERLOADED", "Enrichment capacity exhausted, retry later");
+        }
+
         try {
-            logger.debug("Received UDF request for event enrichment");
-            
-            String enrichedJson = enrichmentVertex.processEvent(eventJson);
-            
+            String enrichedJson = result.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+
             logger.debug("Successfully processed UDF enrichment request");
             return ResponseEntity.ok(enrichedJson);
-            
-        } catch (Exception e) {
-            logger.error("Failed to process UDF enrichment request", e);
-            
-            // Return error as JSON response
-            String errorResponse = String.format(
-                "{\"error\":\"ENRICHMENT_ERROR\",\"message\":\"%s\",\"timestamp\":\"%s\"}",
-                e.getMessage().replace("\"", "\\\""),
-                java.time.Instant.now().toString()
-            );
-            
-            return ResponseEntity.status(500)
-                   .contentType(MediaType.APPLICATION_JSON)
-                   .body(errorResponse);
+
+        } catch (TimeoutException e) {
+            // A request still waiting for a thread is dropped; a running one stops at its next check
+            result.cancel(true);
+            return deadlineExceeded();
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EnrichmentTimeoutException) {
+                return deadlineExceeded();
+            }
+            logger.error("Failed to process UDF enrichment request", e.getCause());
+            return error(ResponseEntity.internalServerError(), "ENRICHMENT_ERROR", e.getCause().getMessage());
+
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            return error(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE), "INTERRUPTED", "Request interrupted");
         }
     }
 
@@ -62,4 +107,26 @@ public class UdfController {
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("{\"status\":\"healthy\",\"service\":\"text-enrichment-udf\"}");
     }
+
+    private ResponseEntity<String> deadlineExceeded() {
+        logger.warn("UDF enrichment request exceeded its {}ms deadline", properties.getDeadlineMs());
+        return error(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT), "DEADLINE_EXCEEDED",
+            "Enrichment did not complete within " + properties.getDeadlineMs() + "ms");
+    }
+
+    /**
+     * Builds a JSON error response; the mapper escapes the message, whatever exception it comes from.
+     */
+    private ResponseEntity<String> error(ResponseEntity.BodyBuilder response, String error, String message) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(new ErrorResponse(error, message, Instant.now().toString()));
+        } catch (JsonProcessingException e) {
+            body = "{\"error\":\"" + error + "\"}";
+        }
+        return response.contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    record ErrorResponse(String error, String message, String timestamp) {
+    }
 }
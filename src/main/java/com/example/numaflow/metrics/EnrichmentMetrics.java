@@ -0,0 +1,213 @@
+package com.example.numaflow.metrics;
+
+import com.example.numaflow.model.NamedEntity;
+import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.nlp.EnrichmentTier;
+import com.example.numaflow.nlp.StageTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-stage timers and output counters of the enrichment pipeline.
+ * <p>
+ * Every stage is recorded in the {@value #STAGE_DURATION} histogram, tagged with
+ * <ul>
+ *   <li>{@code stage}: {@link #PARSE}, {@link #SERIALIZATION} or one of the {@link StageTimer} stages,</li>
+ *   <li>{@code field}: the enriched field, or {@value #EVENT_FIELD} for stages over the whole event,</li>
+ *   <li>{@code length}: the bucket of the input length, in characters for fields and bytes for events,</li>
+ *   <li>{@code type}: the engine of the stage, or the entity type of a name finder model.</li>
+ * </ul>
+ * The {@value #SEGMENTS} and {@value #ENTITIES} counters count the sentences and entities found per
+ * field, the latter tagged with the entity type. The {@value #TIER} gauge is the ordinal of the
+ * {@link EnrichmentTier} new events are enriched at, 0 being full enrichment. Meters are registered on
+ * first use and then looked up in a map, so recording does not go through the registry.
+ */
+public class EnrichmentMetrics {
+
+    public static final String STAGE_DURATION = "enrichment.stage.duration";
+    public static final String SEGMENTS = "enrichment.segments";
+    public static final String ENTITIES = "enrichment.entities";
+    public static final String TIER = "enrichment.tier";
+
+    /**
+     * Parsing of the event JSON.
+     */
+    public static final String PARSE = "parse";
+
+    /**
+     * Serialization of the enriched event JSON.
+     */
+    public static final String SERIALIZATION = "serialization";
+
+    /**
+     * Field tag of the stages that process a whole event.
+     */
+    public static final String EVENT_FIELD = "event";
+
+    private static final String JSON = "json";
+
+    private static final int[] LENGTH_BOUNDS = {256, 1024, 4096, 16384, 65536};
+    private static final String[] LENGTH_BUCKETS = {"0-256", "256-1k", "1k-4k", "4k-16k", "16k-64k", "64k+"};
+
+    /**
+     * Histogram buckets, from a short title sentence to a large document.
+     */
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+        Duration.ofNanos(50_000), Duration.ofNanos(100_000), Duration.ofNanos(250_000),
+        Duration.ofNanos(500_000), Duration.ofMillis(1), Duration.ofNanos(2_500_000),
+        Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1)
+    };
+
+    private static final EnrichmentMetrics DISABLED = new EnrichmentMetrics(null);
+
+    private final MeterRegistry registry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry the registry to publish to, or {@code null} to record nothing
+     */
+    public EnrichmentMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns metrics that record nothing, used when no registry is configured.
+     */
+    public static EnrichmentMetrics disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * Returns the {@code length} tag of an input of the given length.
+     */
+    public static String lengthBucket(int length) {
+        for (int i = 0; i < LENGTH_BOUNDS.length; i++) {
+            if (length < LENGTH_BOUNDS[i]) {
+                return LENGTH_BUCKETS[i];
+            }
+        }
+        return LENGTH_BUCKETS[LENGTH_BOUNDS.length];
+    }
+
+    /**
+     * Returns a timer for the pipeline stages of one field.
+     *
+     * @param field the field name
+     * @param length the length of the field text, in characters
+     */
+    public StageTimer forField(String field, int length) {
+        if (registry == null) {
+            return StageTimer.NONE;
+        }
+        String bucket = lengthBucket(length);
+        return (stage, type, nanos) -> timer(stage, field, bucket, type).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Publishes the enrichment tier as the {@value #TIER} gauge.
+     *
+     * @param tier returns the tier new events are enriched at
+     */
+    public void registerTier(Supplier<EnrichmentTier> tier) {
+        if (registry != null) {
+            Gauge.builder(TIER, () -> tier.get().ordinal())
+                .description("Enrichment tier of new events, from 0 (full) to 3 (segmentation only)")
+                .register(registry);
+        }
+    }
+
+    /**
+     * Records the duration of a stage over a whole event, {@link #PARSE} or {@link #SERIALIZATION}.
+     *
+     * @param stage the stage
+     * @param bytes the size of the event JSON
+     * @param nanos the duration, in nanoseconds
+     */
+    public void recordEventStage(String stage, int bytes, long nanos) {
+        if (registry != null) {
+            timer(stage, EVENT_FIELD, lengthBucket(bytes), JSON).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Counts the segments and entities found in a field.
+     *
+     * @param field the field name
+     * @param length the length of the field text, in characters
+     * @param segments the segments of the field
+     */
+    public void countSegments(String field, int length, List<TextSegment> segments) {
+        if (registry == null) {
+            return;
+        }
+        String bucket = lengthBucket(length);
+        counter(SEGMENTS, field, bucket, null).increment(segments.size());
+        for (TextSegment segment : segments) {
+            countEntities(field, bucket, segment);
+        }
+    }
+
+    /**
+     * Counts one segment of a field and its entities, for fields enriched in streaming mode.
+     *
+     * @param field the field name
+     * @param length the length of the field text, in characters
+     * @param segment the segment
+     */
+    public void countSegment(String field, int length, TextSegment segment) {
+        if (registry == null) {
+            return;
+        }
+        String bucket = lengthBucket(length);
+        counter(SEGMENTS, field, bucket, null).increment();
+        countEntities(field, bucket, segment);
+    }
+
+    private void countEntities(String field, String bucket, TextSegment segment) {
+        for (NamedEntity entity : segment.getNamedEntities()) {
+            counter(ENTITIES, field, bucket, entity.getType() != null ? entity.getType() : "unknown").increment();
+        }
+    }
+
+    private Timer timer(String stage, String field, String bucket, String type) {
+        return timers.computeIfAbsent(new MeterKey(stage, field, bucket, type), key -> Timer.builder(STAGE_DURATION)
+            .description("Duration of one stage of the enrichment pipeline")
+            .tags("stage", key.name(), "field", key.field(), "length", key.length(), "type", key.type())
+            .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+            .register(registry));
+    }
+
+    private Counter counter(String name, String field, String bucket, String type) {
+        return counters.computeIfAbsent(new MeterKey(name, field, bucket, type), key -> {
+            Counter.Builder builder = Counter.builder(key.name())
+                .description(SEGMENTS.equals(key.name()) ? "Sentences found in enriched fields"
+                                                         : "Named entities found in enriched fields")
+                .tags("field", key.field(), "length", key.length());
+            if (key.type() != null) {
+                builder.tag("type", key.type());
+            }
+            return builder.register(registry);
+        });
+    }
+
+    /**
+     * Identifies a meter: its stage or name and its tags.
+     */
+    private record MeterKey(String name, String field, String length, String type) {
+    }
+}
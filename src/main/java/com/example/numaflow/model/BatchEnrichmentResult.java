@@ -0,0 +1,94 @@
+package com.example.numaflow.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of enriching a batch of events, with one {@link EventEnrichmentResult} per input event
+ * in input order.
+ */
+@JsonIgnoreProperties(value = {"successCount", "failureCount", "timeoutCount"}, allowGetters = true)
+public class BatchEnrichmentResult {
+    
+    @JsonProperty("results")
+    private List<EventEnrichmentResult> results;
+    
+    @JsonProperty("processingTimeMs")
+    private long processingTimeMs;
+    
+    public BatchEnrichmentResult() {
+        this.results = new ArrayList<>();
+    }
+    
+    public BatchEnrichmentResult(List<EventEnrichmentResult> results, long processingTimeMs) {
+        this.results = results != null ? results : new ArrayList<>();
+        this.processingTimeMs = processingTimeMs;
+    }
+    
+    /**
+     * Get the enriched events of all successfully processed events, in input order.
+     * 
+     * @return list of enriched events
+     */
+    @JsonIgnore
+    public List<EnrichedEvent> getEnrichedEvents() {
+        List<EnrichedEvent> enrichedEvents = new ArrayList<>();
+        for (EventEnrichmentResult result : results) {
+            if (result.isSuccess()) {
+                enrichedEvents.add(result.getEnrichedEvent());
+            }
+        }
+        return enrichedEvents;
+    }
+    
+    @JsonProperty("successCount")
+    public long getSuccessCount() {
+        return count(EventEnrichmentResult.Status.SUCCESS);
+    }
+    
+    @JsonProperty("failureCount")
+    public long getFailureCount() {
+        return count(EventEnrichmentResult.Status.FAILURE);
+    }
+    
+    @JsonProperty("timeoutCount")
+    public long getTimeoutCount() {
+        return count(EventEnrichmentResult.Status.TIMEOUT);
+    }
+    
+    private long count(EventEnrichmentResult.Status status) {
+        return results.stream().filter(result -> result.getStatus() == status).count();
+    }
+    
+    // Getters and Setters
+    public List<EventEnrichmentResult> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<EventEnrichmentResult> results) {
+        this.results = results != null ? results : new ArrayList<>();
+    }
+    
+    public long getProcessingTimeMs() {
+        return processingTimeMs;
+    }
+    
+    public void setProcessingTimeMs(long processingTimeMs) {
+        this.processingTimeMs = processingTimeMs;
+    }
+    
+    @Override
+    public String toString() {
+        return "BatchEnrichmentResult{" +
+                "size=" + results.size() +
+                ", success=" + getSuccessCount() +
+                ", failure=" + getFailureCount() +
+                ", timeout=" + getTimeoutCount() +
+                ", processingTimeMs=" + processingTimeMs +
+                '}';
+    }
+}
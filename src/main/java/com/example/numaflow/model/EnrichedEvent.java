@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,7 +27,7 @@ public class EnrichedEvent {
     private Map<String, Object> enrichmentMetadata;
     
     public EnrichedEvent() {
-        this.enrichedFields = new HashMap<>();
+        this.enrichedFields = new LinkedHashMap<>();
         this.enrichmentMetadata = new HashMap<>();
         this.processingTimestamp = Instant.now();
     }
@@ -76,6 +77,25 @@ public class EnrichedEvent {
         return allSegments;
     }
     
+    /**
+     * Get the original text of an enriched field, against which segment and entity offsets are resolved.
+     * 
+     * @param fieldName the name of the field (e.g., "title", "description")
+     * @return the field text, or {@code null} if the original event or field is not available
+     */
+    public String getOriginalFieldText(String fieldName) {
+        if (originalEvent == null) {
+            return null;
+        }
+        return switch (fieldName) {
+            case "title" -> originalEvent.getTitle();
+            case "description" -> originalEvent.getDescription();
+            case "content" -> originalEvent.getContent();
+            case "summary" -> originalEvent.getSummary();
+            default -> null;
+        };
+    }
+    
     // Getters and Setters
     public Event getOriginalEvent() {
         return originalEvent;
@@ -90,7 +110,7 @@ public class EnrichedEvent {
     }
     
     public void setEnrichedFields(Map<String, List<TextSegment>> enrichedFields) {
-        this.enrichedFields = enrichedFields != null ? enrichedFields : new HashMap<>();
+        this.enrichedFields = enrichedFields != null ? enrichedFields : new LinkedHashMap<>();
     }
     
     public Instant getProcessingTimestamp() {
@@ -0,0 +1,112 @@
+package com.example.numaflow.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of enriching a single event as part of a batch.
+ */
+public class EventEnrichmentResult {
+    
+    /**
+     * Processing status of an event in a batch.
+     */
+    public enum Status {
+        SUCCESS,
+        FAILURE,
+        TIMEOUT
+    }
+    
+    @JsonProperty("eventId")
+    private String eventId;
+    
+    @JsonProperty("status")
+    private Status status;
+    
+    @JsonProperty("enrichedEvent")
+    private EnrichedEvent enrichedEvent;
+    
+    @JsonProperty("errorMessage")
+    private String errorMessage;
+    
+    @JsonProperty("processingTimeMs")
+    private long processingTimeMs;
+    
+    public EventEnrichmentResult() {}
+    
+    private EventEnrichmentResult(String eventId, Status status, EnrichedEvent enrichedEvent,
+                                  String errorMessage, long processingTimeMs) {
+        this.eventId = eventId;
+        this.status = status;
+        this.enrichedEvent = enrichedEvent;
+        this.errorMessage = errorMessage;
+        this.processingTimeMs = processingTimeMs;
+    }
+    
+    public static EventEnrichmentResult success(String eventId, EnrichedEvent enrichedEvent, long processingTimeMs) {
+        return new EventEnrichmentResult(eventId, Status.SUCCESS, enrichedEvent, null, processingTimeMs);
+    }
+    
+    public static EventEnrichmentResult failure(String eventId, String errorMessage, long processingTimeMs) {
+        return new EventEnrichmentResult(eventId, Status.FAILURE, null, errorMessage, processingTimeMs);
+    }
+    
+    public static EventEnrichmentResult timeout(String eventId, long processingTimeMs) {
+        return new EventEnrichmentResult(eventId, Status.TIMEOUT, null,
+            "Enrichment did not complete within the timeout", processingTimeMs);
+    }
+    
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+    
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public EnrichedEvent getEnrichedEvent() {
+        return enrichedEvent;
+    }
+    
+    public void setEnrichedEvent(EnrichedEvent enrichedEvent) {
+        this.enrichedEvent = enrichedEvent;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+    
+    public long getProcessingTimeMs() {
+        return processingTimeMs;
+    }
+    
+    public void setProcessingTimeMs(long processingTimeMs) {
+        this.processingTimeMs = processingTimeMs;
+    }
+    
+    @Override
+    public String toString() {
+        return "EventEnrichmentResult{" +
+                "eventId='" + eventId + '\'' +
+                ", status=" + status +
+                ", errorMessage='" + errorMessage + '\'' +
+                ", processingTimeMs=" + processingTimeMs +
+                '}';
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.numaflow.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Objects;
+
 /**
  * Represents a named entity extracted from text using NLP processing.
  */
 public class NamedEntity {
     
+    /**
+     * Covered text, or {@code null} when the enrichment ran in offsets-only mode;
+     * see {@link #resolveText(String)}.
+     */
     @JsonProperty("text")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String text;
     
     @JsonProperty("type")
@@ -49,6 +57,19 @@ public class NamedEntity {
         this.text = text;
     }
     
+    /**
+     * Returns the covered text, taking it from the source field when only offsets were recorded.
+     * 
+     * @param source the text of the field this entity was extracted from
+     * @return the covered text, or {@code null} if neither the text nor the source is available
+     */
+    public String resolveText(String source) {
+        if (text != null || source == null) {
+            return text;
+        }
+        return source.substring(startIndex, endIndex);
+    }
+    
     public String getType() {
         return type;
     }
@@ -101,12 +122,12 @@ public class NamedEntity {
         return startIndex == that.startIndex &&
                endIndex == that.endIndex &&
                Double.compare(that.confidence, confidence) == 0 &&
-               text.equals(that.text) &&
-               type.equals(that.type);
+               Objects.equals(text, that.text) &&
+               Objects.equals(type, that.type);
     }
     
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(text, type, startIndex, endIndex, confidence);
+        return Objects.hash(text, type, startIndex, endIndex, confidence);
     }
 }
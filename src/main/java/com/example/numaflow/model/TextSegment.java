@@ -1,16 +1,23 @@
 package com.example.numaflow.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a text segment (sentence) with associated named entities.
  */
 public class TextSegment {
     
+    /**
+     * Covered text, or {@code null} when the enrichment ran in offsets-only mode;
+     * see {@link #resolveText(String)}.
+     */
     @JsonProperty("text")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String text;
     
     @JsonProperty("startIndex")
@@ -46,6 +53,19 @@ public class TextSegment {
         this.text = text;
     }
     
+    /**
+     * Returns the covered text, taking it from the source field when only offsets were recorded.
+     * 
+     * @param source the text of the field this segment was extracted from
+     * @return the covered text, or {@code null} if neither the text nor the source is available
+     */
+    public String resolveText(String source) {
+        if (text != null || source == null) {
+            return text;
+        }
+        return source.substring(startIndex, endIndex);
+    }
+    
     public int getStartIndex() {
         return startIndex;
     }
@@ -105,11 +125,11 @@ public class TextSegment {
         return startIndex == that.startIndex &&
                endIndex == that.endIndex &&
                segmentNumber == that.segmentNumber &&
-               text.equals(that.text);
+               Objects.equals(text, that.text);
     }
     
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(text, startIndex, endIndex, segmentNumber);
+        return Objects.hash(text, startIndex, endIndex, segmentNumber);
     }
 }
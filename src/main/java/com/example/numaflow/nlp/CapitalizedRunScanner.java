@@ -0,0 +1,136 @@
+package com.example.numaflow.nlp;
+
+/**
+ * Single-pass scanner that finds runs of capitalized words, the entity candidates of the rule-based
+ * fallback NER.
+ * <p>
+ * Adjacent capitalized words are merged into one candidate ("Tim Cook", "New York City"). A run ends
+ * at a lowercase word, at punctuation attached to a word ("Seattle," or "Inc."), or at a line break.
+ * Surrounding quotes and brackets are not part of a candidate, and common function words that are
+ * only capitalized because they start a sentence ("The", "He", ...) never start a run.
+ * <p>
+ * The scanner works on offsets only: it creates no strings or regular expressions per word.
+ */
+public final class CapitalizedRunScanner {
+
+    /**
+     * Receives the {@code [start, end)} offsets of every candidate.
+     */
+    @FunctionalInterface
+    public interface CandidateConsumer {
+        void accept(int start, int end);
+    }
+
+    /**
+     * Capitalized function words that are not entities on their own, sorted by length.
+     */
+    private static final String[] STOPWORDS = {
+        "An", "As", "At", "By", "He", "If", "In", "It", "My", "No", "Of", "On", "Or", "So", "To", "We",
+        "And", "But", "For", "Her", "His", "Its", "Our", "She", "The", "Yet", "You",
+        "From", "Here", "Once", "That", "Then", "They", "This", "When", "With",
+        "After", "Their", "There", "These", "Those", "While",
+        "Before"
+    };
+
+    private CapitalizedRunScanner() {
+    }
+
+    /**
+     * Scans the text and reports every capitalized run, in text order.
+     *
+     * @param text the text to scan
+     * @param consumer receives the offsets of each candidate within {@code text}
+     */
+    public static void scan(CharSequence text, CandidateConsumer consumer) {
+        int length = text.length();
+        int runStart = -1;
+        int runEnd = -1;
+        int i = 0;
+
+        while (i < length) {
+            // Skip the gap before the next word; a line break ends the current run
+            boolean lineBreak = false;
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                char c = text.charAt(i);
+                lineBreak |= c == '\n' || c == '\r';
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+            if (lineBreak && runStart >= 0) {
+                consumer.accept(runStart, runEnd);
+                runStart = -1;
+            }
+
+            int wordStart = i;
+            while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int wordEnd = i;
+
+            // Strip leading and trailing punctuation, quotes and brackets
+            int coreStart = wordStart;
+            while (coreStart < wordEnd && !Character.isLetterOrDigit(text.charAt(coreStart))) {
+                coreStart++;
+            }
+            int coreEnd = wordEnd;
+            while (coreEnd > coreStart && !Character.isLetterOrDigit(text.charAt(coreEnd - 1))) {
+                coreEnd--;
+            }
+
+            boolean capitalized = coreEnd - coreStart > 1 && Character.isUpperCase(text.charAt(coreStart));
+            if (capitalized && runStart < 0 && isStopword(text, coreStart, coreEnd)) {
+                capitalized = false;
+            }
+
+            if (!capitalized) {
+                if (runStart >= 0) {
+                    consumer.accept(runStart, runEnd);
+                    runStart = -1;
+                }
+                continue;
+            }
+
+            if (runStart >= 0 && coreStart == wordStart) {
+                runEnd = coreEnd;
+            } else {
+                // Leading punctuation such as an opening quote starts a new run
+                if (runStart >= 0) {
+                    consumer.accept(runStart, runEnd);
+                }
+                runStart = coreStart;
+                runEnd = coreEnd;
+            }
+
+            // Trailing punctuation closes the run
+            if (coreEnd != wordEnd) {
+                consumer.accept(runStart, runEnd);
+                runStart = -1;
+            }
+        }
+
+        if (runStart >= 0) {
+            consumer.accept(runStart, runEnd);
+        }
+    }
+
+    private static boolean isStopword(CharSequence text, int start, int end) {
+        int length = end - start;
+        for (String stopword : STOPWORDS) {
+            if (stopword.length() == length && regionEquals(text, start, stopword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (text.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
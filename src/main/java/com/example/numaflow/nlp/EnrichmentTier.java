@@ -0,0 +1,81 @@
+package com.example.numaflow.nlp;
+
+/**
+ * How much of the configured pipelines an event is enriched with, from the full pipelines down to
+ * sentence segmentation alone. Lower tiers are used to keep up with the input under load; every tier
+ * keeps the sentence segmenter of the field, so segment offsets do not depend on the tier.
+ */
+public enum EnrichmentTier {
+
+    /**
+     * The configured pipelines.
+     */
+    FULL("full"),
+
+    /**
+     * No entity recognition in the {@code content} field, the longest one; the other fields are full.
+     */
+    NO_CONTENT_ENTITIES("no-content-entities"),
+
+    /**
+     * No entity recognition in the {@code content} field and the rule-based recognizer in the others.
+     */
+    RULE_BASED_ENTITIES("rule-based-entities"),
+
+    /**
+     * Sentence segmentation only, in every field.
+     */
+    SEGMENTATION_ONLY("segmentation-only");
+
+    /**
+     * The field whose entity recognition is dropped first.
+     */
+    public static final String CONTENT_FIELD = "content";
+
+    private final String name;
+
+    EnrichmentTier(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the tier, as written in the {@code enrichmentTier} metadata of the output.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether entity recognition is skipped for a field at this tier.
+     */
+    public boolean skipsEntities(String fieldName) {
+        return this == SEGMENTATION_ONLY || (this != FULL && CONTENT_FIELD.equals(fieldName));
+    }
+
+    /**
+     * Returns whether the fields that still recognize entities use the rule-based recognizer.
+     */
+    public boolean usesRuleBasedEntities() {
+        return this == RULE_BASED_ENTITIES;
+    }
+
+    /**
+     * Returns the next cheaper tier, or this tier if it is the cheapest.
+     */
+    public EnrichmentTier lower() {
+        EnrichmentTier[] tiers = values();
+        return ordinal() + 1 < tiers.length ? tiers[ordinal() + 1] : this;
+    }
+
+    /**
+     * Returns the next richer tier, or this tier if it is {@link #FULL}.
+     */
+    public EnrichmentTier higher() {
+        return this == FULL ? this : values()[ordinal() - 1];
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
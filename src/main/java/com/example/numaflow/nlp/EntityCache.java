@@ -0,0 +1,111 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of named entities per sentence.
+ * <p>
+ * Feeds repeat titles and boilerplate sentences constantly, so the entities of a sentence are
+ * cached by its content and the {@linkplain NlpPipeline#getEntityStageName() entity stage} that
+ * found them. Entries are stored with offsets relative to the sentence start and are rebased onto
+ * the position of the sentence in the field on every hit. Keys hold the sentence strings themselves:
+ * their hash is computed once per string and the equality check on lookup rules out collisions
+ * returning another sentence's entities.
+ * <p>
+ * Keys also carry the generation of the cache, which {@link #invalidateAll()} advances. An extraction
+ * still running on the previous models when they are replaced is stored under the old generation,
+ * where no later lookup finds it, instead of being served after the invalidation.
+ * <p>
+ * Eviction is by approximate retained size in bytes, so a few very long sentences cannot push out
+ * thousands of short ones.
+ */
+public class EntityCache {
+
+    /**
+     * Name under which the cache metrics are published.
+     */
+    public static final String METRICS_NAME = "nlp.entities";
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int ENTITY_OVERHEAD_BYTES = 48;
+
+    private final Cache<Key, List<NamedEntity>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a cache holding at most roughly {@code maximumWeight} bytes of sentences and entities.
+     */
+    public EntityCache(long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher(EntityCache::weigh)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the entities of a sentence, extracting and caching them on a miss.
+     *
+     * @param entityStage identifies the tokenizer and recognizers that extract the entities
+     * @param sentence the sentence text
+     * @param sentenceStart the start index of the sentence within the field
+     * @param extractor extracts the entities of a sentence, with offsets relative to the sentence start
+     * @return new entity instances with offsets within the field
+     */
+    public List<NamedEntity> get(String entityStage, String sentence, int sentenceStart,
+                                 Function<String, List<NamedEntity>> extractor) {
+        List<NamedEntity> cached = cache.get(new Key(generation.get(), entityStage, sentence),
+                                             key -> List.copyOf(extractor.apply(key.sentence())));
+
+        // Cached entities are shared, so callers always get their own copies
+        List<NamedEntity> entities = new ArrayList<>(cached.size());
+        for (NamedEntity entity : cached) {
+            entities.add(new NamedEntity(
+                entity.getText(),
+                entity.getType(),
+                sentenceStart + entity.getStartIndex(),
+                sentenceStart + entity.getEndIndex(),
+                entity.getConfidence()
+            ));
+        }
+        return entities;
+    }
+
+    /**
+     * Drops all entries, e.g. after the models producing them were replaced.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * The underlying cache, for binding its statistics to a meter registry.
+     */
+    public Cache<?, List<NamedEntity>> getCache() {
+        return cache;
+    }
+
+    private static int weigh(Key key, List<NamedEntity> entities) {
+        long weight = ENTRY_OVERHEAD_BYTES + 2L * key.sentence().length();
+        for (NamedEntity entity : entities) {
+            weight += ENTITY_OVERHEAD_BYTES;
+            if (entity.getText() != null) {
+                weight += 2L * entity.getText().length();
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private record Key(long generation, String entityStage, String sentence) {
+    }
+}
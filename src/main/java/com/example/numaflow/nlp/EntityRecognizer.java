@@ -0,0 +1,47 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import opennlp.tools.util.Span;
+
+import java.util.List;
+
+/**
+ * Finds named entities in a sentence.
+ * <p>
+ * Implementations must be thread-safe, since one instance serves every field enriched with it.
+ */
+public interface EntityRecognizer {
+
+    /**
+     * Finds the entities of a sentence.
+     *
+     * @param sentence the sentence text
+     * @param tokens the token offsets within {@code sentence}, or {@code null} if no recognizer of the
+     *               pipeline {@linkplain #requiresTokens() requires tokens}
+     * @return the entities, with their text and with offsets relative to the sentence start
+     */
+    List<NamedEntity> recognize(String sentence, Span[] tokens);
+
+    /**
+     * Finds the entities of a sentence, reporting the durations of internal stages, such as each
+     * name finder model, to a timer.
+     */
+    default List<NamedEntity> recognize(String sentence, Span[] tokens, StageTimer timer) {
+        return recognize(sentence, tokens);
+    }
+
+    /**
+     * Whether {@link #recognize(String, Span[])} needs the sentence tokens.
+     */
+    default boolean requiresTokens() {
+        return true;
+    }
+
+    /**
+     * Whether the recognizers after this one in a pipeline are skipped for a sentence in which this
+     * one found entities.
+     */
+    default boolean shortCircuits() {
+        return false;
+    }
+}
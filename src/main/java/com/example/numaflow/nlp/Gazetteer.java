@@ -0,0 +1,286 @@
+package com.example.numaflow.nlp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over a dictionary of known entity names.
+ * <p>
+ * A text is matched in one pass over its characters, whatever the number of names. The automaton is
+ * stored in primitive arrays: the transitions of node {@code n} are the entries
+ * {@code [edgeStart[n], edgeStart[n + 1])} of {@code edgeChars} and {@code edgeTargets}, sorted by
+ * character and looked up by binary search. This keeps a dictionary of a hundred thousand names at a
+ * few megabytes, instead of one map object per trie node.
+ * <p>
+ * The dictionary file has one {@code TYPE<TAB>name} entry per line, e.g. {@code ORGANIZATION	Microsoft};
+ * blank lines and lines starting with {@code #} are ignored.
+ */
+public final class Gazetteer {
+
+    /**
+     * Receives one dictionary match.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        void accept(int start, int end, String type);
+    }
+
+    private static final int ROOT = 0;
+
+    private final boolean ignoreCase;
+
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    /** Nearest node on the failure chain, excluding the node itself, where an entry ends; -1 if none. */
+    private final int[] outputLink;
+    /** Entry ending at the node, or -1. */
+    private final int[] nodeEntry;
+
+    private final int[] entryLength;
+    private final int[] entryType;
+    private final String[] types;
+
+    private Gazetteer(boolean ignoreCase, int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] failure,
+                      int[] outputLink, int[] nodeEntry, int[] entryLength, int[] entryType, String[] types) {
+        this.ignoreCase = ignoreCase;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputLink = outputLink;
+        this.nodeEntry = nodeEntry;
+        this.entryLength = entryLength;
+        this.entryType = entryType;
+        this.types = types;
+    }
+
+    /**
+     * Loads a dictionary file.
+     *
+     * @param path the dictionary file, UTF-8 encoded
+     * @param ignoreCase whether names match regardless of case
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is not a {@code TYPE<TAB>name} entry
+     */
+    public static Gazetteer load(Path path, boolean ignoreCase) throws IOException {
+        return parse(Files.readAllLines(path, StandardCharsets.UTF_8), ignoreCase);
+    }
+
+    /**
+     * Builds the automaton from dictionary lines.
+     *
+     * @param lines {@code TYPE<TAB>name} entries; blank lines and {@code #} comments are ignored
+     * @param ignoreCase whether names match regardless of case
+     * @throws IllegalArgumentException if a line is not a {@code TYPE<TAB>name} entry
+     */
+    public static Gazetteer parse(List<String> lines, boolean ignoreCase) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            String type = tab > 0 ? line.substring(0, tab).strip() : "";
+            String name = tab > 0 ? line.substring(tab + 1).strip() : "";
+            if (type.isEmpty() || name.isEmpty()) {
+                throw new IllegalArgumentException("Invalid gazetteer entry on line " + (i + 1) + ": " + line);
+            }
+            entries.put(name, type);
+        }
+        return build(entries, ignoreCase);
+    }
+
+    /**
+     * Builds the automaton from names and their entity types.
+     *
+     * @param entries entity types keyed by name
+     * @param ignoreCase whether names match regardless of case
+     */
+    public static Gazetteer build(Map<String, String> entries, boolean ignoreCase) {
+        // Build the trie with temporary maps; only the flattened arrays are kept
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> entryAtNode = new ArrayList<>();
+        children.add(new TreeMap<>());
+        entryAtNode.add(-1);
+
+        Map<String, Integer> typeIndex = new LinkedHashMap<>();
+        int[] entryLength = new int[entries.size()];
+        int[] entryType = new int[entries.size()];
+        int entry = 0;
+
+        for (Map.Entry<String, String> e : entries.entrySet()) {
+            String name = e.getKey();
+            int node = ROOT;
+            for (int i = 0; i < name.length(); i++) {
+                char c = fold(name.charAt(i), ignoreCase);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(c, next);
+                    children.add(new TreeMap<>());
+                    entryAtNode.add(-1);
+                }
+                node = next;
+            }
+            // A name listed twice in different case keeps its first entry when case is ignored
+            if (entryAtNode.get(node) < 0) {
+                entryAtNode.set(node, entry);
+            }
+            entryLength[entry] = name.length();
+            entryType[entry] = typeIndex.computeIfAbsent(e.getValue(), type -> typeIndex.size());
+            entry++;
+        }
+
+        int nodes = children.size();
+        int[] edgeStart = new int[nodes + 1];
+        int edges = 0;
+        for (int node = 0; node < nodes; node++) {
+            edgeStart[node] = edges;
+            edges += children.get(node).size();
+        }
+        edgeStart[nodes] = edges;
+
+        char[] edgeChars = new char[edges];
+        int[] edgeTargets = new int[edges];
+        int[] nodeEntry = new int[nodes];
+        for (int node = 0; node < nodes; node++) {
+            int edge = edgeStart[node];
+            for (Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue();
+                edge++;
+            }
+            nodeEntry[node] = entryAtNode.get(node);
+        }
+
+        // Failure and output links, breadth first so shallower nodes are always done first
+        int[] failure = new int[nodes];
+        int[] outputLink = new int[nodes];
+        outputLink[ROOT] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int edge = edgeStart[ROOT]; edge < edgeStart[ROOT + 1]; edge++) {
+            failure[edgeTargets[edge]] = ROOT;
+            outputLink[edgeTargets[edge]] = -1;
+            queue.add(edgeTargets[edge]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                char c = edgeChars[edge];
+                int child = edgeTargets[edge];
+
+                int fallback = failure[node];
+                int target;
+                while ((target = transition(edgeStart, edgeChars, edgeTargets, fallback, c)) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target >= 0 ? target : ROOT;
+                outputLink[child] = nodeEntry[failure[child]] >= 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+
+        String[] types = typeIndex.keySet().toArray(new String[0]);
+        return new Gazetteer(ignoreCase, edgeStart, edgeChars, edgeTargets, failure, outputLink, nodeEntry,
+                             entryLength, entryType, types);
+    }
+
+    /**
+     * Number of names in the dictionary.
+     */
+    public int size() {
+        return entryLength.length;
+    }
+
+    /**
+     * Number of automaton nodes, a measure of its memory footprint.
+     */
+    public int nodeCount() {
+        return failure.length;
+    }
+
+    /**
+     * Finds the dictionary names in a text. Only whole-word matches are reported; where matches
+     * overlap, the leftmost one wins and, among those starting at the same position, the longest.
+     *
+     * @param text the text to search
+     * @param consumer receives the matches in text order
+     */
+    public void match(CharSequence text, MatchConsumer consumer) {
+        int length = text.length();
+        int[] bestEnd = null;
+        int[] bestType = null;
+
+        int node = ROOT;
+        for (int i = 0; i < length; i++) {
+            char c = fold(text.charAt(i), ignoreCase);
+            int next;
+            while ((next = transition(edgeStart, edgeChars, edgeTargets, node, c)) < 0 && node != ROOT) {
+                node = failure[node];
+            }
+            node = next >= 0 ? next : ROOT;
+
+            int end = i + 1;
+            if (end < length && Character.isLetterOrDigit(text.charAt(end))) {
+                continue;
+            }
+            for (int m = nodeEntry[node] >= 0 ? node : outputLink[node]; m >= 0; m = outputLink[m]) {
+                int entry = nodeEntry[m];
+                int start = end - entryLength[entry];
+                if (start > 0 && Character.isLetterOrDigit(text.charAt(start - 1))) {
+                    continue;
+                }
+                if (bestEnd == null) {
+                    bestEnd = new int[length];
+                    bestType = new int[length];
+                }
+                if (end > bestEnd[start]) {
+                    bestEnd[start] = end;
+                    bestType[start] = entryType[entry];
+                }
+            }
+        }
+
+        if (bestEnd == null) {
+            return;
+        }
+        for (int start = 0; start < length; start++) {
+            if (bestEnd[start] > 0) {
+                consumer.accept(start, bestEnd[start], types[bestType[start]]);
+                start = bestEnd[start] - 1;
+            }
+        }
+    }
+
+    private static int transition(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static char fold(char c, boolean ignoreCase) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import opennlp.tools.util.Span;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity recognizer that tags the names of a {@link Gazetteer} dictionary file in one pass per sentence.
+ * <p>
+ * Dictionary hits are exact, so they are reported with full confidence. In {@link Mode#AUGMENT} mode
+ * the recognizers after this one in a pipeline still run and only add the entities that do not
+ * overlap a dictionary hit; in {@link Mode#SHORT_CIRCUIT} mode they are skipped for every sentence
+ * with at least one hit, which saves the model inference on sentences the dictionary already covers.
+ * <p>
+ * The dictionary can be reloaded while the recognizer is in use: a new automaton is built off to
+ * the side and swapped in atomically, and reload listeners are notified, e.g. to drop cached entities.
+ */
+public class GazetteerEntityRecognizer implements EntityRecognizer, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(GazetteerEntityRecognizer.class);
+
+    public static final double CONFIDENCE = 1.0;
+
+    /**
+     * How dictionary hits combine with the recognizers after this one.
+     */
+    public enum Mode {
+        AUGMENT,
+        SHORT_CIRCUIT;
+
+        /**
+         * Parses a mode setting such as {@code augment} or {@code short-circuit}.
+         *
+         * @throws IllegalArgumentException if the setting names no mode
+         */
+        public static Mode fromName(String name) {
+            return Mode.valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Path path;
+    private final boolean ignoreCase;
+    private final Mode mode;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Gazetteer gazetteer;
+    private FileTime lastModified;
+    private ScheduledExecutorService watcher;
+
+    /**
+     * Loads the dictionary file.
+     *
+     * @param path the dictionary file, see {@link Gazetteer} for its format
+     * @param ignoreCase whether names match regardless of case
+     * @param mode how dictionary hits combine with the recognizers after this one
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file contains an invalid entry
+     */
+    public GazetteerEntityRecognizer(Path path, boolean ignoreCase, Mode mode) throws IOException {
+        this.path = path;
+        this.ignoreCase = ignoreCase;
+        this.mode = mode;
+        reload();
+    }
+
+    @Override
+    public List<NamedEntity> recognize(String sentence, Span[] tokens) {
+        List<NamedEntity> entities = new ArrayList<>();
+        gazetteer.match(sentence, (start, end, type) ->
+            entities.add(new NamedEntity(sentence.substring(start, end), type, start, end, CONFIDENCE)));
+        return entities;
+    }
+
+    @Override
+    public boolean requiresTokens() {
+        return false;
+    }
+
+    @Override
+    public boolean shortCircuits() {
+        return mode == Mode.SHORT_CIRCUIT;
+    }
+
+    /**
+     * Rebuilds the automaton from the dictionary file and swaps it in.
+     *
+     * @throws IOException if the file cannot be read; the current dictionary stays in use
+     * @throws IllegalArgumentException if the file contains an invalid entry; the current dictionary stays in use
+     */
+    public synchronized void reload() throws IOException {
+        FileTime modified = Files.getLastModifiedTime(path);
+        long startTime = System.nanoTime();
+        Gazetteer loaded = Gazetteer.load(path, ignoreCase);
+
+        boolean replaced = gazetteer != null;
+        this.gazetteer = loaded;
+        this.lastModified = modified;
+        logger.info("Loaded gazetteer {}: {} names, {} nodes in {} ms", path, loaded.size(), loaded.nodeCount(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        if (replaced) {
+            for (Runnable listener : reloadListeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Reloads the dictionary if its file changed since it was last loaded.
+     *
+     * @return whether the dictionary was reloaded
+     */
+    public boolean reloadIfModified() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            synchronized (this) {
+                if (modified.equals(lastModified)) {
+                    return false;
+                }
+            }
+            reload();
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Failed to reload gazetteer {}, keeping the current dictionary", path, e);
+            return false;
+        }
+    }
+
+    /**
+     * Checks the dictionary file for changes every {@code intervalMillis} on a daemon thread,
+     * until {@link #close()}.
+     */
+    public synchronized void watch(long intervalMillis) {
+        if (watcher != null || intervalMillis <= 0) {
+            return;
+        }
+        watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gazetteer-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watcher.scheduleWithFixedDelay(this::reloadIfModified, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Watching gazetteer {} for changes every {} ms", path, intervalMillis);
+    }
+
+    /**
+     * Registers an action to run after each reload.
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Stops watching the dictionary file.
+     */
+    @Override
+    public synchronized void close() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+            watcher = null;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Number of names in the current dictionary.
+     */
+    public int size() {
+        return gazetteer.size();
+    }
+}
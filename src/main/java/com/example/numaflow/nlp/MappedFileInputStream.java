@@ -0,0 +1,79 @@
+package com.example.numaflow.nlp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Input stream over a read-only memory mapping of a file.
+ * <p>
+ * Model files are read straight from the page cache instead of being copied through a
+ * {@code FileInputStream} buffer, and pages already cached by the kernel, e.g. by another replica on
+ * the same node or a previous run of the container, are not read from the volume again. The mapping
+ * is released when the stream is garbage collected; the stream is meant to be read once and dropped.
+ */
+public final class MappedFileInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private MappedFileInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps a file and opens a stream over it.
+     *
+     * @param path the file to read
+     * @throws IOException if the file cannot be opened or mapped, or is larger than 2 GiB
+     */
+    public static MappedFileInputStream open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + path + " (" + size + " bytes)");
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new MappedFileInputStream(mapped);
+        }
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long count) {
+        if (count <= 0) {
+            return 0;
+        }
+        int skipped = (int) Math.min(count, buffer.remaining());
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
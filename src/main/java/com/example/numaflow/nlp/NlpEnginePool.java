@@ -0,0 +1,97 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.tokenize.TokenizerME;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Pool of OpenNLP engine instances built from one shared {@link NlpModels}.
+ * <p>
+ * The OpenNLP {@code *ME} classes keep per-call state and are not thread-safe, so every caller
+ * acquires its own {@link Engines} for the duration of one unit of work and returns it afterwards.
+ * Engines are created lazily, so the pool grows to the peak number of concurrent callers and the
+ * expensive model objects are never duplicated.
+ */
+public class NlpEnginePool {
+
+    private final NlpModels models;
+    private final ConcurrentLinkedQueue<Engines> idle = new ConcurrentLinkedQueue<>();
+
+    public NlpEnginePool(NlpModels models) {
+        this.models = models;
+    }
+
+    public NlpModels getModels() {
+        return models;
+    }
+
+    /**
+     * Acquires engines for the calling thread. Use with try-with-resources so the engines are
+     * returned to the pool when the work is done.
+     */
+    public Engines acquire() {
+        Engines engines = idle.poll();
+        return engines != null ? engines : new Engines();
+    }
+
+    private void release(Engines engines) {
+        idle.offer(engines);
+    }
+
+    /**
+     * Number of idle engine sets currently held by the pool.
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Thread-confined set of OpenNLP engines. Any of the engines may be {@code null} when the
+     * corresponding model is not loaded.
+     */
+    public final class Engines implements AutoCloseable {
+
+        private final SentenceDetectorME sentenceDetector;
+        private final TokenizerME tokenizer;
+        private final Map<String, NameFinderME> nameFinders;
+
+        private Engines() {
+            this.sentenceDetector = models.hasSentenceModel()
+                ? new SentenceDetectorME(models.getSentenceModel()) : null;
+            this.tokenizer = models.hasTokenizerModel()
+                ? new TokenizerME(models.getTokenizerModel()) : null;
+
+            Map<String, NameFinderME> finders = new LinkedHashMap<>();
+            for (Map.Entry<String, TokenNameFinderModel> entry : models.getNameFinderModels().entrySet()) {
+                finders.put(entry.getKey(), new NameFinderME(entry.getValue()));
+            }
+            this.nameFinders = Collections.unmodifiableMap(finders);
+        }
+
+        public SentenceDetectorME getSentenceDetector() {
+            return sentenceDetector;
+        }
+
+        public TokenizerME getTokenizer() {
+            return tokenizer;
+        }
+
+        public Map<String, NameFinderME> getNameFinders() {
+            return nameFinders;
+        }
+
+        @Override
+        public void close() {
+            for (NameFinderME finder : nameFinders.values()) {
+                finder.clearAdaptiveData();
+            }
+            release(this);
+        }
+    }
+}
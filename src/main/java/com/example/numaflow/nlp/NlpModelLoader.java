@@ -0,0 +1,198 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.config.EnvironmentSettings;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.tokenize.TokenizerModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Loads OpenNLP models from the file system without Spring.
+ * <p>
+ * Used by the standalone UDF, where models are mounted into the container (by default under
+ * {@code /app/models}). Every setting can be given as a system property or an environment variable:
+ * <ul>
+ *   <li>{@code nlp.models.dir} / {@code NLP_MODELS_DIR} - directory holding the default model file names</li>
+ *   <li>{@code nlp.models.sentence} / {@code NLP_MODELS_SENTENCE} - sentence model path</li>
+ *   <li>{@code nlp.models.tokenizer} / {@code NLP_MODELS_TOKENIZER} - tokenizer model path</li>
+ *   <li>{@code nlp.models.ner.person} / {@code NLP_MODELS_NER_PERSON} - person NER model path
+ *       (likewise {@code location} and {@code organization})</li>
+ *   <li>{@code nlp.models.ner.mode} / {@code NLP_MODELS_NER_MODE} - {@code per-type} (default) or
+ *       {@code combined} to load a single multi-type model instead of the three per-type models</li>
+ *   <li>{@code nlp.models.ner.combined} / {@code NLP_MODELS_NER_COMBINED} - combined NER model path</li>
+ *   <li>{@code nlp.fallback-enabled} / {@code NLP_FALLBACK_ENABLED} - when {@code true}, missing models
+ *       are reported and the rule-based fallback is used instead of failing</li>
+ *   <li>{@code nlp.models.memory-mapped} / {@code NLP_MODELS_MEMORY_MAPPED} - when {@code true} (default),
+ *       model files are read through a memory mapping, see {@link MappedFileInputStream}</li>
+ * </ul>
+ * OpenNLP parses every model into its own on-heap structures, so mapping only avoids copying the
+ * file through stream buffers and lets replicas on one node share the cached file pages; the parsed
+ * models still live on each replica's heap.
+ */
+public class NlpModelLoader implements NlpModelSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(NlpModelLoader.class);
+
+    public static final String DEFAULT_MODELS_DIR = "/app/models";
+
+    private Path sentenceModelPath;
+    private Path tokenizerModelPath;
+    private final Map<String, Path> nameFinderModelPaths = new LinkedHashMap<>();
+    private boolean fallbackEnabled;
+    private boolean memoryMapped = true;
+
+    /**
+     * Creates a loader configured from system properties and environment variables.
+     */
+    public static NlpModelLoader fromEnvironment() {
+        Path modelsDir = Paths.get(EnvironmentSettings.get("nlp.models.dir", DEFAULT_MODELS_DIR));
+
+        NlpModelLoader loader = new NlpModelLoader()
+            .sentenceModel(modelPath("nlp.models.sentence", modelsDir, "en-sent.bin"))
+            .tokenizerModel(modelPath("nlp.models.tokenizer", modelsDir, "en-token.bin"))
+            .fallbackEnabled(EnvironmentSettings.getBoolean("nlp.fallback-enabled", false))
+            .memoryMapped(EnvironmentSettings.getBoolean("nlp.models.memory-mapped", true));
+
+        if (NlpModels.COMBINED_NER_MODE.equalsIgnoreCase(EnvironmentSettings.get("nlp.models.ner.mode", "per-type"))) {
+            return loader.nameFinderModel(NlpModels.COMBINED_NER,
+                modelPath("nlp.models.ner.combined", modelsDir, "en-ner-combined.bin"));
+        }
+        return loader
+            .nameFinderModel("PERSON", modelPath("nlp.models.ner.person", modelsDir, "en-ner-person.bin"))
+            .nameFinderModel("LOCATION", modelPath("nlp.models.ner.location", modelsDir, "en-ner-location.bin"))
+            .nameFinderModel("ORGANIZATION",
+                modelPath("nlp.models.ner.organization", modelsDir, "en-ner-organization.bin"));
+    }
+
+    private static Path modelPath(String property, Path modelsDir, String defaultFileName) {
+        return Paths.get(EnvironmentSettings.get(property, modelsDir.resolve(defaultFileName).toString()));
+    }
+
+    public NlpModelLoader sentenceModel(Path path) {
+        this.sentenceModelPath = path;
+        return this;
+    }
+
+    public NlpModelLoader tokenizerModel(Path path) {
+        this.tokenizerModelPath = path;
+        return this;
+    }
+
+    public NlpModelLoader nameFinderModel(String entityType, Path path) {
+        this.nameFinderModelPaths.put(entityType, path);
+        return this;
+    }
+
+    public NlpModelLoader fallbackEnabled(boolean fallbackEnabled) {
+        this.fallbackEnabled = fallbackEnabled;
+        return this;
+    }
+
+    public NlpModelLoader memoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+        return this;
+    }
+
+    /**
+     * Loads all configured models, concurrently.
+     *
+     * @return the loaded models
+     * @throws IOException if a model is missing or unreadable and the fallback is not enabled
+     */
+    public NlpModels load() throws IOException {
+        return load(models -> { });
+    }
+
+    /**
+     * Loads all configured models, concurrently.
+     *
+     * @param progress receives the models loaded so far each time one more model is in
+     * @return the loaded models
+     * @throws IOException if a model is missing or unreadable and the fallback is not enabled
+     */
+    @Override
+    public NlpModels load(Consumer<NlpModels> progress) throws IOException {
+        logger.info("Loading OpenNLP models (fallback enabled: {}, memory-mapped: {})", fallbackEnabled, memoryMapped);
+        long start = System.nanoTime();
+
+        List<String> problems = new ArrayList<>();
+        ParallelModelLoader loader = new ParallelModelLoader();
+
+        if (isUsable(sentenceModelPath, "sentence", problems)) {
+            loader.add("sentence model " + sentenceModelPath, () -> {
+                try (InputStream in = open(sentenceModelPath)) {
+                    SentenceModel model = new SentenceModel(in);
+                    return models -> models.sentenceModel(model);
+                }
+            });
+        }
+
+        if (isUsable(tokenizerModelPath, "tokenizer", problems)) {
+            loader.add("tokenizer model " + tokenizerModelPath, () -> {
+                try (InputStream in = open(tokenizerModelPath)) {
+                    TokenizerModel model = new TokenizerModel(in);
+                    return models -> models.tokenizerModel(model);
+                }
+            });
+        }
+
+        for (Map.Entry<String, Path> entry : nameFinderModelPaths.entrySet()) {
+            String entityType = entry.getKey();
+            Path path = entry.getValue();
+            if (isUsable(path, "NER " + entityType, problems)) {
+                loader.add("NER " + entityType + " model " + path, () -> {
+                    try (InputStream in = open(path)) {
+                        TokenNameFinderModel model = new TokenNameFinderModel(in);
+                        return models -> models.nameFinderModel(entityType, model);
+                    }
+                });
+            }
+        }
+
+        NlpModels loaded = loader.load(progress);
+        problems.addAll(loader.getProblems());
+
+        if (!problems.isEmpty()) {
+            if (!fallbackEnabled) {
+                throw new IOException("Failed to load OpenNLP models: " + String.join("; ", problems));
+            }
+            logger.error("OpenNLP models are missing or unreadable, the rule-based fallback will be used " +
+                "for the affected stages: {}", problems);
+        }
+
+        logger.info("OpenNLP models loaded in {}ms: {}", (System.nanoTime() - start) / 1_000_000, loaded);
+        return loaded;
+    }
+
+    private static boolean isUsable(Path path, String name, List<String> problems) {
+        if (path == null) {
+            problems.add(name + " model path is not configured");
+            return false;
+        }
+        if (!Files.isReadable(path)) {
+            problems.add(name + " model not found at " + path);
+            return false;
+        }
+        return true;
+    }
+
+    private InputStream open(Path path) throws IOException {
+        if (memoryMapped) {
+            return MappedFileInputStream.open(path);
+        }
+        return new BufferedInputStream(Files.newInputStream(path));
+    }
+}
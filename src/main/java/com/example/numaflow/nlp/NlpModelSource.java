@@ -0,0 +1,21 @@
+package com.example.numaflow.nlp;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Loads a set of NLP models, reporting the models available so far while it runs.
+ */
+@FunctionalInterface
+public interface NlpModelSource {
+
+    /**
+     * Loads the models.
+     *
+     * @param progress receives the models loaded so far each time one more model is in, before the
+     *                 complete set is returned
+     * @return the complete set of models
+     * @throws IOException if the models cannot be loaded
+     */
+    NlpModels load(Consumer<NlpModels> progress) throws IOException;
+}
@@ -0,0 +1,130 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.Span;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable set of loaded OpenNLP models.
+ * The model objects are thread-safe and are shared by every engine created from them.
+ */
+public final class NlpModels {
+
+    /**
+     * Name finder key of a single multi-type model whose spans carry their own entity type.
+     */
+    public static final String COMBINED_NER = "COMBINED";
+
+    /**
+     * Value of the NER mode setting that selects the combined multi-type model.
+     */
+    public static final String COMBINED_NER_MODE = "combined";
+
+    private static final NlpModels EMPTY = new NlpModels(null, null, Map.of());
+
+    private final SentenceModel sentenceModel;
+    private final TokenizerModel tokenizerModel;
+    private final Map<String, TokenNameFinderModel> nameFinderModels;
+
+    private NlpModels(SentenceModel sentenceModel,
+                      TokenizerModel tokenizerModel,
+                      Map<String, TokenNameFinderModel> nameFinderModels) {
+        this.sentenceModel = sentenceModel;
+        this.tokenizerModel = tokenizerModel;
+        this.nameFinderModels = Collections.unmodifiableMap(new LinkedHashMap<>(nameFinderModels));
+    }
+
+    /**
+     * Returns a model set without any models, which makes the service use its fallback implementations.
+     */
+    public static NlpModels empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public SentenceModel getSentenceModel() {
+        return sentenceModel;
+    }
+
+    public TokenizerModel getTokenizerModel() {
+        return tokenizerModel;
+    }
+
+    /**
+     * Name finder models keyed by entity type, in registration order.
+     */
+    public Map<String, TokenNameFinderModel> getNameFinderModels() {
+        return nameFinderModels;
+    }
+
+    public boolean hasSentenceModel() {
+        return sentenceModel != null;
+    }
+
+    public boolean hasTokenizerModel() {
+        return tokenizerModel != null;
+    }
+
+    public boolean hasNameFinderModels() {
+        return !nameFinderModels.isEmpty();
+    }
+
+    /**
+     * Maps the type of a span produced by a multi-type name finder ({@code person}, {@code location},
+     * {@code organization}, ...) to the entity type names used in the output.
+     */
+    public static String entityTypeOf(Span span) {
+        String type = span.getType();
+        return type == null || type.isEmpty() ? "UNKNOWN" : type.toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return "NlpModels{" +
+                "sentenceModel=" + hasSentenceModel() +
+                ", tokenizerModel=" + hasTokenizerModel() +
+                ", nameFinderModels=" + nameFinderModels.keySet() +
+                '}';
+    }
+
+    /**
+     * Builder for {@link NlpModels}.
+     */
+    public static final class Builder {
+
+        private SentenceModel sentenceModel;
+        private TokenizerModel tokenizerModel;
+        private final Map<String, TokenNameFinderModel> nameFinderModels = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder sentenceModel(SentenceModel sentenceModel) {
+            this.sentenceModel = sentenceModel;
+            return this;
+        }
+
+        public Builder tokenizerModel(TokenizerModel tokenizerModel) {
+            this.tokenizerModel = tokenizerModel;
+            return this;
+        }
+
+        public Builder nameFinderModel(String entityType, TokenNameFinderModel model) {
+            this.nameFinderModels.put(entityType, model);
+            return this;
+        }
+
+        public NlpModels build() {
+            return new NlpModels(sentenceModel, tokenizerModel, nameFinderModels);
+        }
+    }
+}
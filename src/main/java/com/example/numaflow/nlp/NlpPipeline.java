@@ -0,0 +1,161 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import opennlp.tools.util.Span;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The engines used to enrich one kind of field: a sentence segmenter, a tokenizer and the entity
+ * recognizers whose results are combined, in order.
+ * <p>
+ * Pipelines are immutable and thread-safe. Cheap fields such as titles can use fast rule-based
+ * engines while long content goes through the full models.
+ */
+public final class NlpPipeline {
+
+    private final String name;
+    private final String entityStageName;
+    private final String sentenceSegmenterName;
+    private final SentenceSegmenter sentenceSegmenter;
+    private final String tokenizerName;
+    private final Tokenizer tokenizer;
+    private final List<String> entityRecognizerNames;
+    private final List<EntityRecognizer> entityRecognizers;
+
+    /**
+     * @param sentenceSegmenterName name of the sentence segmenter, for logging
+     * @param sentenceSegmenter the sentence segmenter
+     * @param tokenizerName name of the tokenizer, for logging and cache keys
+     * @param tokenizer the tokenizer
+     * @param entityRecognizerNames names of the entity recognizers, for logging and cache keys
+     * @param entityRecognizers the entity recognizers
+     */
+    public NlpPipeline(String sentenceSegmenterName, SentenceSegmenter sentenceSegmenter,
+                       String tokenizerName, Tokenizer tokenizer,
+                       List<String> entityRecognizerNames, List<EntityRecognizer> entityRecognizers) {
+        this.entityStageName = tokenizerName + "/"
+            + (entityRecognizerNames.isEmpty() ? "none" : String.join(",", entityRecognizerNames));
+        this.name = sentenceSegmenterName + "/" + entityStageName;
+        this.sentenceSegmenterName = sentenceSegmenterName;
+        this.sentenceSegmenter = sentenceSegmenter;
+        this.tokenizerName = tokenizerName;
+        this.tokenizer = tokenizer;
+        this.entityRecognizerNames = List.copyOf(entityRecognizerNames);
+        this.entityRecognizers = List.copyOf(entityRecognizers);
+    }
+
+    /**
+     * Describes the engines of this pipeline, as {@code segmenter/tokenizer/recognizer,...}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Identifies the tokenizer and recognizers; pipelines with the same entity stage name find the
+     * same entities in a sentence.
+     */
+    public String getEntityStageName() {
+        return entityStageName;
+    }
+
+    /**
+     * Returns whether the pipeline has any entity recognizer; without one, sentences are only segmented.
+     */
+    public boolean recognizesEntities() {
+        return !entityRecognizers.isEmpty();
+    }
+
+    /**
+     * Detects the sentences of a text.
+     */
+    public Span[] segment(String text) {
+        return sentenceSegmenter.segment(text);
+    }
+
+    /**
+     * Detects the sentences of a text, reporting the duration to a timer.
+     */
+    public Span[] segment(String text, StageTimer timer) {
+        long start = System.nanoTime();
+        Span[] sentences = sentenceSegmenter.segment(text);
+        timer.record(StageTimer.SENTENCE_DETECTION, sentenceSegmenterName, System.nanoTime() - start);
+        return sentences;
+    }
+
+    /**
+     * Finds the entities of a sentence with the recognizers of the pipeline, in order. The sentence
+     * is tokenized only once a recognizer needs the tokens. Entities overlapping one found by an
+     * earlier recognizer are dropped, and a {@linkplain EntityRecognizer#shortCircuits() short-circuiting}
+     * recognizer that finds entities ends the sentence.
+     *
+     * @param sentence the sentence text
+     * @return the entities, with offsets relative to the sentence start
+     */
+    public List<NamedEntity> recognize(String sentence) {
+        return recognize(sentence, StageTimer.NONE);
+    }
+
+    /**
+     * Finds the entities of a sentence like {@link #recognize(String)}, reporting the duration of
+     * tokenization and of each recognizer to a timer.
+     */
+    public List<NamedEntity> recognize(String sentence, StageTimer timer) {
+        if (entityRecognizers.size() == 1) {
+            EntityRecognizer recognizer = entityRecognizers.get(0);
+            return recognize(0, sentence, recognizer.requiresTokens() ? tokenize(sentence, timer) : null, timer);
+        }
+
+        List<NamedEntity> entities = new ArrayList<>();
+        Span[] tokens = null;
+        for (int i = 0; i < entityRecognizers.size(); i++) {
+            EntityRecognizer recognizer = entityRecognizers.get(i);
+            if (tokens == null && recognizer.requiresTokens()) {
+                tokens = tokenize(sentence, timer);
+            }
+            List<NamedEntity> found = recognize(i, sentence, tokens, timer);
+
+            int earlier = entities.size();
+            for (NamedEntity entity : found) {
+                if (!overlaps(entities, earlier, entity)) {
+                    entities.add(entity);
+                }
+            }
+            if (recognizer.shortCircuits() && !found.isEmpty()) {
+                break;
+            }
+        }
+        return entities;
+    }
+
+    private Span[] tokenize(String sentence, StageTimer timer) {
+        long start = System.nanoTime();
+        Span[] tokens = tokenizer.tokenize(sentence);
+        timer.record(StageTimer.TOKENIZATION, tokenizerName, System.nanoTime() - start);
+        return tokens;
+    }
+
+    private List<NamedEntity> recognize(int recognizer, String sentence, Span[] tokens, StageTimer timer) {
+        long start = System.nanoTime();
+        List<NamedEntity> entities = entityRecognizers.get(recognizer).recognize(sentence, tokens, timer);
+        timer.record(StageTimer.ENTITY_RECOGNITION, entityRecognizerNames.get(recognizer), System.nanoTime() - start);
+        return entities;
+    }
+
+    private static boolean overlaps(List<NamedEntity> entities, int count, NamedEntity entity) {
+        for (int i = 0; i < count; i++) {
+            NamedEntity other = entities.get(i);
+            if (entity.getStartIndex() < other.getEndIndex() && other.getStartIndex() < entity.getEndIndex()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.util.Span;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Entity recognizer running the OpenNLP name finder models of the current {@link NlpEnginePool}.
+ * Delegates to a fallback recognizer while no name finder model is loaded.
+ */
+public class OpenNlpEntityRecognizer implements EntityRecognizer {
+
+    private final Supplier<NlpEnginePool> pools;
+    private final EntityRecognizer fallback;
+
+    /**
+     * @param pools supplies the engine pool of the currently installed models
+     * @param fallback the recognizer used while no name finder model is loaded
+     */
+    public OpenNlpEntityRecognizer(Supplier<NlpEnginePool> pools, EntityRecognizer fallback) {
+        this.pools = pools;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public List<NamedEntity> recognize(String sentence, Span[] tokens) {
+        return recognize(sentence, tokens, StageTimer.NONE);
+    }
+
+    @Override
+    public List<NamedEntity> recognize(String sentence, Span[] tokens, StageTimer timer) {
+        NlpEnginePool pool = pools.get();
+        // No tokens either when the models were installed after the pipeline decided not to tokenize
+        if (tokens == null || !pool.getModels().hasNameFinderModels()) {
+            return fallback.recognize(sentence, tokens, timer);
+        }
+
+        List<NamedEntity> entities = new ArrayList<>();
+        // The token strings are derived from the spans once and shared by all NER models
+        String[] tokenTexts = Span.spansToStrings(tokens, sentence);
+
+        try (NlpEnginePool.Engines engines = pool.acquire()) {
+            for (Map.Entry<String, NameFinderME> entry : engines.getNameFinders().entrySet()) {
+                boolean multiType = NlpModels.COMBINED_NER.equals(entry.getKey());
+
+                long start = System.nanoTime();
+                Span[] entitySpans = entry.getValue().find(tokenTexts);
+                timer.record(StageTimer.NAME_FINDER, entry.getKey(), System.nanoTime() - start);
+
+                for (Span entitySpan : entitySpans) {
+                    // A combined model labels each span with its own type
+                    String entityType = multiType ? NlpModels.entityTypeOf(entitySpan) : entry.getKey();
+
+                    entities.add(new NamedEntity(
+                        entityText(tokenTexts, entitySpan),
+                        entityType,
+                        tokens[entitySpan.getStart()].getStart(),
+                        tokens[entitySpan.getEnd() - 1].getEnd(),
+                        entitySpan.getProb()
+                    ));
+                }
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public boolean requiresTokens() {
+        return pools.get().getModels().hasNameFinderModels() || fallback.requiresTokens();
+    }
+
+    /**
+     * Joins the tokens covered by an entity span.
+     */
+    private static String entityText(String[] tokens, Span entitySpan) {
+        StringBuilder entityText = new StringBuilder();
+        for (int i = entitySpan.getStart(); i < entitySpan.getEnd(); i++) {
+            if (entityText.length() > 0) {
+                entityText.append(" ");
+            }
+            entityText.append(tokens[i]);
+        }
+        return entityText.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+
+import java.util.function.Supplier;
+
+/**
+ * Sentence segmenter backed by the OpenNLP sentence model of the current {@link NlpEnginePool}.
+ * Delegates to a fallback segmenter while no sentence model is loaded.
+ */
+public class OpenNlpSentenceSegmenter implements SentenceSegmenter {
+
+    private final Supplier<NlpEnginePool> pools;
+    private final SentenceSegmenter fallback;
+
+    /**
+     * @param pools supplies the engine pool of the currently installed models
+     * @param fallback the segmenter used while no sentence model is loaded
+     */
+    public OpenNlpSentenceSegmenter(Supplier<NlpEnginePool> pools, SentenceSegmenter fallback) {
+        this.pools = pools;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Span[] segment(String text) {
+        NlpEnginePool pool = pools.get();
+        if (!pool.getModels().hasSentenceModel()) {
+            return fallback.segment(text);
+        }
+        try (NlpEnginePool.Engines engines = pool.acquire()) {
+            return engines.getSentenceDetector().sentPosDetect(text);
+        }
+    }
+}
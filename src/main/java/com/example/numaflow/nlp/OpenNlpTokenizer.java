@@ -0,0 +1,35 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+
+import java.util.function.Supplier;
+
+/**
+ * Tokenizer backed by the OpenNLP tokenizer model of the current {@link NlpEnginePool}.
+ * Delegates to a fallback tokenizer while no tokenizer model is loaded.
+ */
+public class OpenNlpTokenizer implements Tokenizer {
+
+    private final Supplier<NlpEnginePool> pools;
+    private final Tokenizer fallback;
+
+    /**
+     * @param pools supplies the engine pool of the currently installed models
+     * @param fallback the tokenizer used while no tokenizer model is loaded
+     */
+    public OpenNlpTokenizer(Supplier<NlpEnginePool> pools, Tokenizer fallback) {
+        this.pools = pools;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Span[] tokenize(String sentence) {
+        NlpEnginePool pool = pools.get();
+        if (!pool.getModels().hasTokenizerModel()) {
+            return fallback.tokenize(sentence);
+        }
+        try (NlpEnginePool.Engines engines = pool.acquire()) {
+            return engines.getTokenizer().tokenizePos(sentence);
+        }
+    }
+}
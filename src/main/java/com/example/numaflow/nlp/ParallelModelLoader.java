@@ -0,0 +1,149 @@
+package com.example.numaflow.nlp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Loads models concurrently, one thread per model up to the number of processors.
+ * <p>
+ * Parsing the sentence, tokenizer and NER models one after another dominates startup; loaded in
+ * parallel, startup takes about as long as the largest model. Each model is registered in its slot
+ * order, so the resulting {@link NlpModels} does not depend on which model finished first. A model
+ * that fails to load is recorded in {@link #getProblems()} and left out; the caller decides whether
+ * that is fatal.
+ */
+public final class ParallelModelLoader implements NlpModelSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelModelLoader.class);
+
+    /**
+     * Loads one model.
+     */
+    @FunctionalInterface
+    public interface ModelTask {
+
+        /**
+         * @return registers the loaded model in a builder, or {@code null} if there is no model to register
+         * @throws IOException if the model cannot be read
+         */
+        Consumer<NlpModels.Builder> load() throws IOException;
+    }
+
+    private final List<String> names = new ArrayList<>();
+    private final List<ModelTask> tasks = new ArrayList<>();
+    private final List<String> problems = new ArrayList<>();
+
+    /**
+     * Adds a model to load.
+     *
+     * @param name describes the model in logs and problems, e.g. {@code "sentence model /app/models/en-sent.bin"}
+     * @param task loads the model
+     */
+    public ParallelModelLoader add(String name, ModelTask task) {
+        names.add(name);
+        tasks.add(task);
+        return this;
+    }
+
+    /**
+     * Loads all models; blocks until every model is loaded or failed.
+     *
+     * @throws InterruptedIOException if the calling thread is interrupted while waiting
+     */
+    @Override
+    public NlpModels load(Consumer<NlpModels> progress) throws InterruptedIOException {
+        problems.clear();
+        int count = tasks.size();
+        List<Consumer<NlpModels.Builder>> registrations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            registrations.add(null);
+        }
+        if (count == 0) {
+            return NlpModels.empty();
+        }
+
+        int threads = Math.min(count, Math.max(2, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "nlp-model-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            ExecutorCompletionService<Loaded> completion = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < count; i++) {
+                int slot = i;
+                completion.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        Consumer<NlpModels.Builder> registration = tasks.get(slot).load();
+                        logger.info("Loaded {} in {}ms", names.get(slot), (System.nanoTime() - start) / 1_000_000);
+                        return new Loaded(slot, registration);
+                    } catch (IOException | RuntimeException e) {
+                        throw new IOException(names.get(slot) + ": " + e.getMessage(), e);
+                    }
+                });
+            }
+
+            // Results are taken on the calling thread, so progress is reported sequentially
+            for (int remaining = count; remaining > 0; remaining--) {
+                Loaded loaded = takeNext(completion);
+                if (loaded != null && loaded.registration() != null) {
+                    registrations.set(loaded.slot(), loaded.registration());
+                    if (remaining > 1) {
+                        progress.accept(build(registrations));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading NLP models");
+        } finally {
+            executor.shutdown();
+        }
+        return build(registrations);
+    }
+
+    private Loaded takeNext(ExecutorCompletionService<Loaded> completion) throws InterruptedException {
+        try {
+            return completion.take().get();
+        } catch (ExecutionException e) {
+            problems.add(e.getCause().getMessage());
+            logger.debug("Model failed to load", e.getCause());
+            return null;
+        }
+    }
+
+    private static NlpModels build(List<Consumer<NlpModels.Builder>> registrations) {
+        NlpModels.Builder builder = NlpModels.builder();
+        for (Consumer<NlpModels.Builder> registration : registrations) {
+            if (registration != null) {
+                registration.accept(builder);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Models that failed to load in the last {@link #load(Consumer)}, one message per model.
+     */
+    public List<String> getProblems() {
+        return List.copyOf(problems);
+    }
+
+    private record Loaded(int slot, Consumer<NlpModels.Builder> registration) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import opennlp.tools.util.Span;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity recognizer that needs no model: every run of capitalized words is reported as an entity of
+ * unknown type with a low confidence, see {@link CapitalizedRunScanner}.
+ */
+public class RuleBasedEntityRecognizer implements EntityRecognizer {
+
+    public static final String ENTITY_TYPE = "UNKNOWN";
+
+    public static final double CONFIDENCE = 0.5;
+
+    @Override
+    public List<NamedEntity> recognize(String sentence, Span[] tokens) {
+        List<NamedEntity> entities = new ArrayList<>();
+        CapitalizedRunScanner.scan(sentence, (start, end) ->
+            entities.add(new NamedEntity(sentence.substring(start, end), ENTITY_TYPE, start, end, CONFIDENCE)));
+        return entities;
+    }
+
+    @Override
+    public boolean requiresTokens() {
+        return false;
+    }
+}
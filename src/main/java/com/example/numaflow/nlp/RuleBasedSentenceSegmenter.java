@@ -0,0 +1,178 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Linear, rule-based sentence boundary detector.
+ * <p>
+ * The text is scanned once and sentence offsets are tracked as the scan goes, so repeated sentences
+ * get their own positions. A sentence ends at a run of {@code .}, {@code !}, {@code ?} or {@code …}
+ * (including any closing quotes or brackets right after it) that is followed by whitespace, and at
+ * blank lines. A period does not end a sentence after a known abbreviation ("Dr.", "Inc.", "U.S."),
+ * after a single-letter initial, or when the next word starts in lowercase; the latter also applies
+ * to ellipses.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public class RuleBasedSentenceSegmenter implements SentenceSegmenter {
+
+    /**
+     * Abbreviations, without their final period, that do not end a sentence.
+     */
+    public static final List<String> DEFAULT_ABBREVIATIONS = List.of(
+        "mr", "mrs", "ms", "dr", "prof", "sr", "jr", "st", "mt", "gen", "gov", "sen", "rep", "capt", "lt", "col",
+        "inc", "corp", "co", "ltd", "llc", "plc", "bros", "dept", "univ", "assn",
+        "vs", "etc", "approx", "fig", "vol",
+        "jan", "feb", "mar", "apr", "jun", "jul", "aug", "sep", "sept", "oct", "nov", "dec",
+        "e.g", "i.e", "a.m", "p.m", "u.s", "u.k", "u.n", "e.u"
+    );
+
+    private final String[] abbreviations;
+
+    public RuleBasedSentenceSegmenter() {
+        this(DEFAULT_ABBREVIATIONS);
+    }
+
+    /**
+     * @param abbreviations abbreviations without their final period, matched case-insensitively
+     */
+    public RuleBasedSentenceSegmenter(List<String> abbreviations) {
+        this.abbreviations = abbreviations.stream()
+            .map(abbreviation -> abbreviation.toLowerCase(Locale.ROOT))
+            .toArray(String[]::new);
+    }
+
+    /**
+     * Detects the sentences of the text.
+     *
+     * @param text the text to segment
+     * @return the sentence offsets, without surrounding whitespace, in text order
+     */
+    @Override
+    public Span[] segment(String text) {
+        List<Span> sentences = new ArrayList<>();
+        int length = text.length();
+        int start = skipWhitespace(text, 0);
+        int i = start;
+
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (c == '\n' && isBlankLine(text, i + 1)) {
+                addSentence(sentences, text, start, i);
+                start = skipWhitespace(text, i + 1);
+                i = start;
+                continue;
+            }
+
+            if (!isTerminator(c)) {
+                i++;
+                continue;
+            }
+
+            // Consume the whole terminator run ("?!", "...") and any closing quotes or brackets
+            int runStart = i;
+            while (i < length && isTerminator(text.charAt(i))) {
+                i++;
+            }
+            int runEnd = i;
+            while (i < length && isClosing(text.charAt(i))) {
+                i++;
+            }
+
+            if ((i == length || Character.isWhitespace(text.charAt(i))) && isBoundary(text, runStart, runEnd, i)) {
+                addSentence(sentences, text, start, i);
+                start = skipWhitespace(text, i);
+                i = start;
+            }
+        }
+
+        addSentence(sentences, text, start, length);
+        return sentences.toArray(new Span[0]);
+    }
+
+    private boolean isBoundary(String text, int runStart, int runEnd, int end) {
+        boolean singlePeriod = runEnd - runStart == 1 && text.charAt(runStart) == '.';
+        boolean ellipsis = text.charAt(runStart) == '…' || (runEnd - runStart > 1 && text.charAt(runStart) == '.');
+
+        if (singlePeriod || ellipsis) {
+            // A sentence does not continue in lowercase
+            int next = skipWhitespace(text, end);
+            if (next < text.length() && Character.isLowerCase(text.charAt(next))) {
+                return false;
+            }
+        }
+
+        if (singlePeriod && end == runEnd) {
+            int wordStart = runStart;
+            while (wordStart > 0 && !Character.isWhitespace(text.charAt(wordStart - 1))
+                    && !isOpening(text.charAt(wordStart - 1))) {
+                wordStart--;
+            }
+            int wordLength = runStart - wordStart;
+
+            // Initials such as "J." in "J. R. R. Tolkien"
+            if (wordLength == 1 && Character.isUpperCase(text.charAt(wordStart))) {
+                return false;
+            }
+            return !isAbbreviation(text, wordStart, wordLength);
+        }
+        return true;
+    }
+
+    private boolean isAbbreviation(String text, int wordStart, int wordLength) {
+        for (String abbreviation : abbreviations) {
+            if (abbreviation.length() == wordLength
+                    && text.regionMatches(true, wordStart, abbreviation, 0, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addSentence(List<Span> sentences, String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end > start) {
+            sentences.add(new Span(start, end));
+        }
+    }
+
+    private static boolean isBlankLine(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                return true;
+            }
+            if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…';
+    }
+
+    private static boolean isClosing(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == ']' || c == '”' || c == '’' || c == '»';
+    }
+
+    private static boolean isOpening(char c) {
+        return c == '"' || c == '\'' || c == '(' || c == '[' || c == '“' || c == '‘' || c == '«';
+    }
+}
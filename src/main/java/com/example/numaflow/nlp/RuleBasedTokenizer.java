@@ -0,0 +1,53 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tokenizer that needs no model: runs of letters and digits form one token (with inner apostrophes,
+ * periods and hyphens, as in "don't", "U.S" or "after-hours"), and every other visible character is
+ * a token of its own.
+ */
+public class RuleBasedTokenizer implements Tokenizer {
+
+    @Override
+    public Span[] tokenize(String sentence) {
+        List<Span> tokens = new ArrayList<>();
+        int length = sentence.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = sentence.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            if (Character.isLetterOrDigit(c)) {
+                i++;
+                while (i < length) {
+                    char next = sentence.charAt(i);
+                    if (Character.isLetterOrDigit(next)) {
+                        i++;
+                    } else if (isJoiner(next) && i + 1 < length && Character.isLetterOrDigit(sentence.charAt(i + 1))) {
+                        i += 2;
+                    } else {
+                        break;
+                    }
+                }
+            } else {
+                i++;
+            }
+            tokens.add(new Span(start, i));
+        }
+
+        return tokens.toArray(new Span[0]);
+    }
+
+    private static boolean isJoiner(char c) {
+        return c == '\'' || c == '’' || c == '.' || c == '-';
+    }
+}
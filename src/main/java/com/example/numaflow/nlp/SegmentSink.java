@@ -0,0 +1,18 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.TextSegment;
+
+import java.io.IOException;
+
+/**
+ * Receives the segments of a field enriched in streaming mode, one sentence at a time and in order.
+ */
+@FunctionalInterface
+public interface SegmentSink {
+
+    /**
+     * @param segment the enriched sentence, with its entities and offsets within the field
+     * @throws IOException if the segment cannot be written
+     */
+    void accept(TextSegment segment) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+
+/**
+ * Splits text into sentences.
+ * <p>
+ * Implementations must be thread-safe, since one instance serves every field enriched with it.
+ */
+public interface SentenceSegmenter {
+
+    /**
+     * Detects the sentences of the text.
+     *
+     * @param text the text to segment
+     * @return the sentence offsets within {@code text}, in text order
+     */
+    Span[] segment(String text);
+}
@@ -0,0 +1,44 @@
+package com.example.numaflow.nlp;
+
+/**
+ * Receives the duration of each stage of a pipeline run over one field.
+ * <p>
+ * Implementations must be thread-safe, since the sentences of a long field may be annotated on
+ * several threads at once.
+ */
+@FunctionalInterface
+public interface StageTimer {
+
+    /**
+     * Sentence detection of a whole field; the type is the segmenter name.
+     */
+    String SENTENCE_DETECTION = "sentence-detection";
+
+    /**
+     * Tokenization of one sentence; the type is the tokenizer name.
+     */
+    String TOKENIZATION = "tokenization";
+
+    /**
+     * One entity recognizer run over one sentence; the type is the recognizer name.
+     */
+    String ENTITY_RECOGNITION = "entity-recognition";
+
+    /**
+     * One OpenNLP name finder model run over one sentence; the type is the entity type of the model,
+     * or {@link NlpModels#COMBINED_NER} for a combined model.
+     */
+    String NAME_FINDER = "name-finder";
+
+    /**
+     * Discards all durations.
+     */
+    StageTimer NONE = (stage, type, nanos) -> { };
+
+    /**
+     * @param stage one of the stage constants of this interface
+     * @param type the engine or entity type the stage ran with
+     * @param nanos the duration, in nanoseconds
+     */
+    void record(String stage, String type, long nanos);
+}
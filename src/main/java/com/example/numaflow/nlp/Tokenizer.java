@@ -0,0 +1,19 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+
+/**
+ * Splits a sentence into tokens for the entity recognizers.
+ * <p>
+ * Implementations must be thread-safe, since one instance serves every field enriched with it.
+ */
+public interface Tokenizer {
+
+    /**
+     * Tokenizes a sentence.
+     *
+     * @param sentence the sentence text
+     * @return the token offsets within {@code sentence}, in text order
+     */
+    Span[] tokenize(String sentence);
+}
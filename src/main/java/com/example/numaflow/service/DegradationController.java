@@ -0,0 +1,188 @@
+package com.example.numaflow.service;
+
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.nlp.EnrichmentTier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Chooses the {@link EnrichmentTier} events are enriched at, from the rolling per-event latency and
+ * queue depth measured against the budget of {@link ProcessingProperties.DegradationSettings}.
+ * <p>
+ * The latency of an event longer than the budget event size is scaled down to that size, so the
+ * average reflects the cost per event of typical size rather than the size of the last few documents.
+ * The queue depth is the number of events being enriched plus the events waiting to be, such as the
+ * rest of the batch being enriched. Both are tracked as exponentially weighted moving averages over
+ * completed events. When
+ * either exceeds its budget, the tier steps down one level, at most once per step down interval. It
+ * steps back up one level, at most once per step up interval, once both are under the recovery ratio
+ * of their budgets. The averages restart at every tier change, and events enriched at another tier
+ * than the current one are not counted, so each decision reflects the cost of the current tier; after
+ * a second without completed events, the averages restart as well.
+ * <p>
+ * Instances are thread-safe; reading the current tier takes no lock.
+ */
+public class DegradationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DegradationController.class);
+
+    /**
+     * Weight of the newest event in the moving averages.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Events to complete at a tier before it is changed again.
+     */
+    private static final int MIN_SAMPLES = 5;
+
+    /**
+     * Time without completed events after which the averages no longer reflect the load, and restart.
+     */
+    private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long latencyBudgetNanos;
+    private final int budgetEventChars;
+    private final int maxQueueDepth;
+    private final long stepDownIntervalNanos;
+    private final long stepUpIntervalNanos;
+    private final double recoveryRatio;
+    private final IntSupplier waitingWork;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile EnrichmentTier tier = EnrichmentTier.FULL;
+
+    // Guarded by this
+    private double latencyAverage;
+    private double queueDepthAverage;
+    private int samples;
+    private long lastSample;
+    private long lastChange;
+
+    /**
+     * @param settings the latency budget
+     * @param waitingWork the number of events waiting to be enriched, added to the queue depth
+     */
+    public DegradationController(ProcessingProperties.DegradationSettings settings, IntSupplier waitingWork) {
+        this(settings, waitingWork, System::nanoTime);
+    }
+
+    DegradationController(ProcessingProperties.DegradationSettings settings, IntSupplier waitingWork,
+                          LongSupplier clock) {
+        if (settings.getLatencyBudgetMs() <= 0) {
+            throw new IllegalArgumentException("Latency budget must be positive: " + settings.getLatencyBudgetMs());
+        }
+        if (settings.getRecoveryRatio() <= 0 || settings.getRecoveryRatio() > 1) {
+            throw new IllegalArgumentException("Recovery ratio must be in (0, 1]: " + settings.getRecoveryRatio());
+        }
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(settings.getLatencyBudgetMs());
+        this.budgetEventChars = settings.getBudgetEventChars();
+        this.maxQueueDepth = settings.getMaxQueueDepth();
+        this.stepDownIntervalNanos = TimeUnit.MILLISECONDS.toNanos(settings.getStepDownIntervalMs());
+        this.stepUpIntervalNanos = TimeUnit.MILLISECONDS.toNanos(settings.getStepUpIntervalMs());
+        this.recoveryRatio = settings.getRecoveryRatio();
+        this.waitingWork = waitingWork;
+        this.clock = clock;
+        this.lastChange = clock.getAsLong();
+    }
+
+    /**
+     * Returns the tier new events are enriched at.
+     */
+    public EnrichmentTier getTier() {
+        return tier;
+    }
+
+    /**
+     * Counts an event as in flight and returns the tier to enrich it at; every call must be followed
+     * by {@link #exit(EnrichmentTier, long)}.
+     */
+    public EnrichmentTier enter() {
+        inFlight.incrementAndGet();
+        return tier;
+    }
+
+    /**
+     * Records a completed event of at most the budget event size, and steps the tier down or up if the
+     * budget requires it.
+     *
+     * @param eventTier the tier returned by {@link #enter()} for the event
+     * @param latencyNanos the enrichment time of the event
+     */
+    public void exit(EnrichmentTier eventTier, long latencyNanos) {
+        exit(eventTier, latencyNanos, 0);
+    }
+
+    /**
+     * Records a completed event and steps the tier down or up if the budget requires it.
+     *
+     * @param eventTier the tier returned by {@link #enter()} for the event
+     * @param latencyNanos the enrichment time of the event
+     * @param eventChars the length of the text of the event; the latency of a longer event than the
+     *                   budget event size is scaled down to that size
+     */
+    public void exit(EnrichmentTier eventTier, long latencyNanos, long eventChars) {
+        if (budgetEventChars > 0 && eventChars > budgetEventChars) {
+            latencyNanos = latencyNanos * budgetEventChars / eventChars;
+        }
+        int queueDepth = inFlight.decrementAndGet() + waitingWork.getAsInt();
+        synchronized (this) {
+            if (eventTier != tier) {
+                return;
+            }
+            long now = clock.getAsLong();
+            if (now - lastSample > IDLE_NANOS) {
+                samples = 0;
+            }
+            lastSample = now;
+            if (samples == 0) {
+                latencyAverage = latencyNanos;
+                queueDepthAverage = queueDepth;
+            } else {
+                latencyAverage += SMOOTHING * (latencyNanos - latencyAverage);
+                queueDepthAverage += SMOOTHING * (queueDepth - queueDepthAverage);
+            }
+            samples++;
+            adjust(now);
+        }
+    }
+
+    private void adjust(long now) {
+        if (samples < MIN_SAMPLES) {
+            return;
+        }
+        long sinceChange = now - lastChange;
+        boolean queueOverBudget = maxQueueDepth > 0 && queueDepthAverage > maxQueueDepth;
+        if (latencyAverage > latencyBudgetNanos || queueOverBudget) {
+            if (tier != tier.lower() && sinceChange >= stepDownIntervalNanos) {
+                change(tier.lower(), now);
+            }
+            return;
+        }
+        boolean queueRecovered = maxQueueDepth <= 0 || queueDepthAverage <= maxQueueDepth * recoveryRatio;
+        if (tier != EnrichmentTier.FULL && latencyAverage <= latencyBudgetNanos * recoveryRatio && queueRecovered
+                && sinceChange >= stepUpIntervalNanos) {
+            change(tier.higher(), now);
+        }
+    }
+
+    private void change(EnrichmentTier newTier, long now) {
+        String message = "Enrichment tier {} -> {}: rolling latency {}ms (budget {}ms), queue depth {} (budget {})";
+        Object[] arguments = {tier, newTier, Math.round(latencyAverage / 1_000_000),
+            TimeUnit.NANOSECONDS.toMillis(latencyBudgetNanos), Math.round(queueDepthAverage), maxQueueDepth};
+        if (newTier.ordinal() > tier.ordinal()) {
+            logger.warn(message, arguments);
+        } else {
+            logger.info(message, arguments);
+        }
+        tier = newTier;
+        samples = 0;
+        lastChange = now;
+    }
+}
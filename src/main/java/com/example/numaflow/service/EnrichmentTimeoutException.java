@@ -0,0 +1,12 @@
+package com.example.numaflow.service;
+
+/**
+ * Thrown when the enrichment of an event runs past its deadline. The deadline is checked between
+ * fields and between sentences, so enrichment stops at the first such boundary after it.
+ */
+public class EnrichmentTimeoutException extends RuntimeException {
+
+    public EnrichmentTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -1,28 +1,141 @@
 package com.example.numaflow.service;
 
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.metrics.EnrichmentMetrics;
+import com.example.numaflow.model.BatchEnrichmentResult;
 import com.example.numaflow.model.EnrichedEvent;
 import com.example.numaflow.model.Event;
+import com.example.numaflow.model.EventEnrichmentResult;
 import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.nlp.EnrichmentTier;
+import com.example.numaflow.nlp.SegmentSink;
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Service for enriching events with NLP processing results.
+ * <p>
+ * Large events have their text fields enriched in parallel on a bounded {@link ForkJoinPool};
+ * the results are always merged back in field order.
+ * <p>
+ * With {@code app.processing.degradation.enabled}, a {@link DegradationController} steps enrichment
+ * down to cheaper {@link EnrichmentTier}s while events exceed the latency budget, and back up once
+ * load eases. Every enriched event records its tier in the {@code enrichmentTier} metadata.
  */
 @Service
 public class EventEnrichmentService {
     
     private static final Logger logger = LoggerFactory.getLogger(EventEnrichmentService.class);
     
+    /**
+     * How long a batch waits for an event that has not started before checking for free workers again.
+     */
+    private static final long START_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    
     private final NlpEnrichmentService nlpService;
+    private final ProcessingProperties properties;
+    private final ForkJoinPool enrichmentPool;
+    
+    /**
+     * Workers still enriching an event the batch gave up on.
+     */
+    private final AtomicInteger stalledWorkers = new AtomicInteger();
     
+    /**
+     * Number of events not started yet of each batch being enriched.
+     */
+    private final Set<AtomicInteger> batchBacklogs = ConcurrentHashMap.newKeySet();
+    private volatile DegradationController degradation;
+    private EnrichmentMetrics metrics = EnrichmentMetrics.disabled();
+    
+    /**
+     * Creates a service with the default settings, except that fields are enriched one after another
+     * and no enrichment pool is started.
+     */
     public EventEnrichmentService(NlpEnrichmentService nlpService) {
+        this(nlpService, sequentialProperties());
+    }
+    
+    @Autowired
+    public EventEnrichmentService(NlpEnrichmentService nlpService, ProcessingProperties properties) {
         this.nlpService = nlpService;
+        this.properties = properties;
+        this.enrichmentPool = properties.getParallelism() > 1 ? new ForkJoinPool(properties.getParallelism()) : null;
+        if (enrichmentPool != null) {
+            nlpService.setSentencePool(enrichmentPool);
+        }
+        if (properties.getDegradation().isEnabled()) {
+            this.degradation = new DegradationController(properties.getDegradation(), this::batchBacklog);
+        }
+    }
+    
+    private static ProcessingProperties sequentialProperties() {
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(1);
+        return properties;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (enrichmentPool != null) {
+            enrichmentPool.shutdown();
+        }
+    }
+    
+    /**
+     * Sets the metrics the mappers record the JSON parse and serialization of events in.
+     */
+    @Autowired(required = false)
+    public void setMetrics(EnrichmentMetrics metrics) {
+        this.metrics = metrics;
+        metrics.registerTier(this::getTier);
+    }
+    
+    public EnrichmentMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Returns the controller of the enrichment tier, or {@code null} if events are always fully enriched.
+     */
+    public DegradationController getDegradation() {
+        return degradation;
+    }
+    
+    /**
+     * Sets the controller of the enrichment tier; {@code null} enriches every event at the full tier.
+     */
+    public void setDegradation(DegradationController degradation) {
+        this.degradation = degradation;
+    }
+    
+    /**
+     * Returns the tier new events are enriched at.
+     */
+    public EnrichmentTier getTier() {
+        DegradationController controller = degradation;
+        return controller != null ? controller.getTier() : EnrichmentTier.FULL;
     }
     
     /**
@@ -32,55 +145,61 @@ public class EventEnrichmentService {
      * @return enriched event with NLP processing results
      */
     public EnrichedEvent enrichEvent(Event event) {
+        return enrichEvent(event, NlpEnrichmentService.NO_DEADLINE);
+    }
+    
+    /**
+     * Enriches an event, giving up once a deadline has passed. The deadline is checked between fields
+     * and between sentences, so the calling thread is released soon after it.
+     * 
+     * @param event the original event to enrich
+     * @param deadlineNanos the {@link System#nanoTime()} by which enrichment must be done, or
+     *                      {@link NlpEnrichmentService#NO_DEADLINE}
+     * @return enriched event with NLP processing results
+     * @throws EnrichmentTimeoutException if the deadline passes before the event is enriched
+     */
+    public EnrichedEvent enrichEvent(Event event, long deadlineNanos) {
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
         
-        logger.debug("Enriching event with ID: {}", event.getId());
+        DegradationController controller = degradation;
+        if (controller == null) {
+            return enrichEvent(event, EnrichmentTier.FULL, deadlineNanos);
+        }
+        EnrichmentTier tier = controller.enter();
+        long start = System.nanoTime();
+        try {
+            return enrichEvent(event, tier, deadlineNanos);
+        } finally {
+            controller.exit(tier, System.nanoTime() - start, textLength(event));
+        }
+    }
+    
+    private EnrichedEvent enrichEvent(Event event, EnrichmentTier tier, long deadlineNanos) {
+        logger.debug("Enriching event with ID: {} at tier {}", event.getId(), tier);
         Instant startTime = Instant.now();
         
         EnrichedEvent enrichedEvent = new EnrichedEvent(event);
         
-        // Process each text field in the event
-        List<String> processedFields = new ArrayList<>();
-        
-        // Process title
-        if (event.getTitle() != null && !event.getTitle().trim().isEmpty()) {
-            List<TextSegment> titleSegments = nlpService.enrichText(event.getTitle());
-            enrichedEvent.addEnrichedField("title", titleSegments);
-            processedFields.add("title");
-        }
+        // Collect the text fields in the event, in output order
+        List<TextField> fields = textFields(event);
         
-        // Process description
-        if (event.getDescription() != null && !event.getDescription().trim().isEmpty()) {
-            List<TextSegment> descriptionSegments = nlpService.enrichText(event.getDescription());
-            enrichedEvent.addEnrichedField("description", descriptionSegments);
-            processedFields.add("description");
-        }
-        
-        // Process content if present
-        if (event.getContent() != null && !event.getContent().trim().isEmpty()) {
-            List<TextSegment> contentSegments = nlpService.enrichText(event.getContent());
-            enrichedEvent.addEnrichedField("content", contentSegments);
-            processedFields.add("content");
-        }
+        // Process each text field in the event
+        List<List<TextSegment>> fieldSegments = enrichFields(fields, tier, deadlineNanos);
         
-        // Process summary if present
-        if (event.getSummary() != null && !event.getSummary().trim().isEmpty()) {
-            List<TextSegment> summarySegments = nlpService.enrichText(event.getSummary());
-            enrichedEvent.addEnrichedField("summary", summarySegments);
-            processedFields.add("summary");
+        List<String> processedFields = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            enrichedEvent.addEnrichedField(fields.get(i).name(), fieldSegments.get(i));
+            processedFields.add(fields.get(i).name());
         }
         
         // Add enrichment metadata
         Instant endTime = Instant.now();
         long processingTimeMs = endTime.toEpochMilli() - startTime.toEpochMilli();
         
-        enrichedEvent.addEnrichmentMetadata("processedFields", processedFields);
-        enrichedEvent.addEnrichmentMetadata("processingTimeMs", processingTimeMs);
-        enrichedEvent.addEnrichmentMetadata("totalSegments", enrichedEvent.getAllTextSegments().size());
-        enrichedEvent.addEnrichmentMetadata("totalNamedEntities", enrichedEvent.getAllNamedEntities().size());
-        enrichedEvent.addEnrichmentMetadata("nlpModelsUsed", "OpenNLP");
+        enrichedEvent.getEnrichmentMetadata().putAll(enrichmentMetadata(processedFields, processingTimeMs,
+            enrichedEvent.getAllTextSegments().size(), enrichedEvent.getAllNamedEntities().size(), tier));
         
         logger.debug("Event enrichment completed for ID: {} in {}ms. " +
                 "Found {} segments and {} named entities.",
@@ -91,35 +210,300 @@ public class EventEnrichmentService {
         return enrichedEvent;
     }
     
+    /**
+     * Enriches an event and writes it to a JSON generator as it goes, in the same shape as a serialized
+     * {@link EnrichedEvent}. Every field is enriched with
+     * {@link NlpEnrichmentService#enrichFieldStreaming(String, CharSequence, SegmentSink)}, and each
+     * segment is written as soon as its entities are found; no segment list is built for the event.
+     * 
+     * @param event the original event to enrich
+     * @param extraMetadata metadata of the caller, written with the enrichment metadata
+     * @param generator the generator to write to; its codec serializes the original event
+     * @throws IOException if writing fails
+     */
+    public void writeEnrichedEvent(Event event, Map<String, Object> extraMetadata, JsonGenerator generator)
+            throws IOException {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        
+        DegradationController controller = degradation;
+        if (controller == null) {
+            writeEnrichedEvent(event, extraMetadata, generator, EnrichmentTier.FULL);
+            return;
+        }
+        EnrichmentTier tier = controller.enter();
+        long start = System.nanoTime();
+        try {
+            writeEnrichedEvent(event, extraMetadata, generator, tier);
+        } finally {
+            controller.exit(tier, System.nanoTime() - start, textLength(event));
+        }
+    }
+    
+    private void writeEnrichedEvent(Event event, Map<String, Object> extraMetadata, JsonGenerator generator,
+                                    EnrichmentTier tier) throws IOException {
+        logger.debug("Enriching event with ID: {} in streaming mode at tier {}", event.getId(), tier);
+        Instant startTime = Instant.now();
+        
+        generator.writeStartObject();
+        generator.writeObjectField("originalEvent", event);
+        
+        generator.writeObjectFieldStart("enrichedFields");
+        List<String> processedFields = new ArrayList<>();
+        int[] totals = new int[2];
+        for (TextField field : textFields(event)) {
+            boolean[] started = {false};
+            nlpService.enrichFieldStreaming(field.name(), field.text(), tier, segment -> {
+                // Like addEnrichedField, a field without segments is left out
+                if (!started[0]) {
+                    generator.writeArrayFieldStart(field.name());
+                    started[0] = true;
+                }
+                generator.writeObject(segment);
+                totals[0]++;
+                totals[1] += segment.getNamedEntities().size();
+            });
+            if (started[0]) {
+                generator.writeEndArray();
+            }
+            processedFields.add(field.name());
+        }
+        generator.writeEndObject();
+        
+        generator.writeObjectField("processingTimestamp", startTime);
+        
+        long processingTimeMs = Instant.now().toEpochMilli() - startTime.toEpochMilli();
+        Map<String, Object> metadata =
+            enrichmentMetadata(processedFields, processingTimeMs, totals[0], totals[1], tier);
+        metadata.put("streamed", true);
+        metadata.putAll(extraMetadata);
+        generator.writeObjectField("enrichmentMetadata", metadata);
+        generator.writeEndObject();
+        
+        logger.debug("Streaming enrichment completed for ID: {} in {}ms. Found {} segments and {} named entities.",
+                event.getId(), processingTimeMs, totals[0], totals[1]);
+    }
+    
+    /**
+     * Returns whether an event has a text field long enough to be enriched with
+     * {@link #writeEnrichedEvent(Event, Map, JsonGenerator)} rather than {@link #enrichEvent(Event)}.
+     */
+    public boolean shouldStream(Event event) {
+        int threshold = properties.getStreamingThresholdChars();
+        if (threshold <= 0 || event == null) {
+            return false;
+        }
+        for (TextField field : textFields(event)) {
+            if (field.text().length() >= threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Map<String, Object> enrichmentMetadata(List<String> processedFields, long processingTimeMs,
+                                                   int totalSegments, int totalNamedEntities, EnrichmentTier tier) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("processedFields", processedFields);
+        metadata.put("processingTimeMs", processingTimeMs);
+        metadata.put("totalSegments", totalSegments);
+        metadata.put("totalNamedEntities", totalNamedEntities);
+        metadata.put("nlpModelsUsed", "OpenNLP");
+        metadata.put("enrichmentTier", tier.getName());
+        if (nlpService.isOffsetsOnly()) {
+            // Segment and entity text must be resolved against originalEvent
+            metadata.put("textRepresentation", "offsets");
+        }
+        if (nlpService.isLoadingModels()) {
+            // Served while models load: entities may come from the rule-based fallback
+            metadata.put("nlpModelsLoading", true);
+        }
+        return metadata;
+    }
+    
+    /**
+     * Returns the non-blank text fields of an event, in output order.
+     */
+    private static List<TextField> textFields(Event event) {
+        List<TextField> fields = new ArrayList<>(4);
+        addTextField(fields, "title", event.getTitle());
+        addTextField(fields, "description", event.getDescription());
+        addTextField(fields, "content", event.getContent());
+        addTextField(fields, "summary", event.getSummary());
+        return fields;
+    }
+    
+    private static long textLength(Event event) {
+        long length = 0;
+        for (TextField field : textFields(event)) {
+            length += field.text().length();
+        }
+        return length;
+    }
+    
+    private static void addTextField(List<TextField> fields, String name, String text) {
+        if (text != null && !text.trim().isEmpty()) {
+            fields.add(new TextField(name, text));
+        }
+    }
+    
+    /**
+     * Enriches the given fields, in parallel when the event is large enough to benefit from it.
+     * 
+     * @return the segments of each field, in the order of the given fields
+     * @throws EnrichmentTimeoutException if the deadline passes before all fields are enriched
+     */
+    private List<List<TextSegment>> enrichFields(List<TextField> fields, EnrichmentTier tier, long deadlineNanos) {
+        int totalChars = 0;
+        for (TextField field : fields) {
+            totalChars += field.text().length();
+        }
+        
+        if (enrichmentPool == null || totalChars < properties.getParallelThresholdChars()) {
+            List<List<TextSegment>> results = new ArrayList<>(fields.size());
+            for (TextField field : fields) {
+                NlpEnrichmentService.checkDeadline(deadlineNanos);
+                results.add(nlpService.enrichField(field.name(), field.text(), tier, deadlineNanos));
+            }
+            return results;
+        }
+        
+        List<ForkJoinTask<List<TextSegment>>> tasks = new ArrayList<>(fields.size());
+        for (TextField field : fields) {
+            tasks.add(ForkJoinTask.adapt(() -> nlpService.enrichField(field.name(), field.text(), tier, deadlineNanos)));
+        }
+        
+        // Long fields fan their sentences out further on the same pool (see NlpEnrichmentService)
+        if (ForkJoinTask.getPool() == enrichmentPool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            enrichmentPool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+        }
+        
+        List<List<TextSegment>> results = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<List<TextSegment>> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+    
     /**
      * Enriches a batch of events.
      * 
      * @param events the list of events to enrich
-     * @return list of enriched events
+     * @return list of successfully enriched events, in input order
      */
     public List<EnrichedEvent> enrichEvents(List<Event> events) {
+        return enrichBatch(events).getEnrichedEvents();
+    }
+    
+    /**
+     * Enriches a batch of events in parallel and reports the outcome of every event.
+     * <p>
+     * Events are processed in chunks of {@code app.processing.batch-size}, spread over the enrichment
+     * pool. Every event has {@code app.processing.timeout-ms} from the moment it starts: enrichment stops
+     * at the first field or sentence past that deadline, and the event is reported as
+     * {@link EventEnrichmentResult.Status#TIMEOUT}. An event still running at its deadline, within a single
+     * long sentence, is given up on and keeps its worker until the sentence is done; while such events hold
+     * every worker, the remaining events are reported as timed out without being enriched.
+     * 
+     * @param events the list of events to enrich
+     * @return one result per event, in input order
+     */
+    public BatchEnrichmentResult enrichBatch(List<Event> events) {
         if (events == null || events.isEmpty()) {
-            return new ArrayList<>();
+            return new BatchEnrichmentResult();
         }
         
         logger.info("Enriching batch of {} events", events.size());
+        long start = System.nanoTime();
         
-        List<EnrichedEvent> enrichedEvents = new ArrayList<>();
-        for (Event event : events) {
-            try {
-                EnrichedEvent enrichedEvent = enrichEvent(event);
-                enrichedEvents.add(enrichedEvent);
-            } catch (Exception e) {
-                logger.error("Failed to enrich event with ID: {}", event.getId(), e);
-                // Optionally, you could add a partially enriched event or skip this event
-                // For now, we'll continue processing other events
+        List<EventEnrichmentResult> results = new ArrayList<>(events.size());
+        AtomicInteger backlog = new AtomicInteger(events.size());
+        batchBacklogs.add(backlog);
+        try {
+            int chunkSize = Math.max(1, properties.getBatchSize());
+            for (int from = 0; from < events.size(); from += chunkSize) {
+                List<Event> chunk = events.subList(from, Math.min(events.size(), from + chunkSize));
+                results.addAll(enrichChunk(chunk, backlog));
             }
+        } finally {
+            batchBacklogs.remove(backlog);
         }
         
-        logger.info("Batch enrichment completed. Successfully enriched {}/{} events",
-                enrichedEvents.size(), events.size());
+        BatchEnrichmentResult batchResult =
+            new BatchEnrichmentResult(results, (System.nanoTime() - start) / 1_000_000);
+        
+        logger.info("Batch enrichment completed. Successfully enriched {}/{} events ({} failed, {} timed out)",
+                batchResult.getSuccessCount(), events.size(),
+                batchResult.getFailureCount(), batchResult.getTimeoutCount());
         
-        return enrichedEvents;
+        return batchResult;
+    }
+    
+    /**
+     * Returns the number of events of the batches being enriched that have not started yet.
+     */
+    private int batchBacklog() {
+        int backlog = 0;
+        for (AtomicInteger batch : batchBacklogs) {
+            backlog += batch.get();
+        }
+        return backlog;
+    }
+    
+    private List<EventEnrichmentResult> enrichChunk(List<Event> chunk, AtomicInteger backlog) {
+        long timeoutMs = properties.getTimeoutMs();
+        List<EventEnrichmentResult> results = new ArrayList<>(chunk.size());
+        
+        if (enrichmentPool == null) {
+            for (Event event : chunk) {
+                long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+                backlog.decrementAndGet();
+                results.add(enrichWithOutcome(event, timeoutMs, deadlineNanos));
+            }
+            return results;
+        }
+        
+        List<EventTask> tasks = new ArrayList<>(chunk.size());
+        for (Event event : chunk) {
+            EventTask task = new EventTask(event, timeoutMs, backlog);
+            // Events queued while abandoned events hold every worker would never start
+            if (stalledWorkers.get() < properties.getParallelism()) {
+                task.future = enrichmentPool.submit(task);
+            }
+            tasks.add(task);
+        }
+        
+        try {
+            for (EventTask task : tasks) {
+                results.add(task.await());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while enriching batch", e);
+        }
+        return results;
+    }
+    
+    private EventEnrichmentResult enrichWithOutcome(Event event, long timeoutMs, long deadlineNanos) {
+        String eventId = eventIdOf(event);
+        long start = System.nanoTime();
+        try {
+            EnrichedEvent enrichedEvent = enrichEvent(event, deadlineNanos);
+            return EventEnrichmentResult.success(eventId, enrichedEvent, (System.nanoTime() - start) / 1_000_000);
+        } catch (EnrichmentTimeoutException e) {
+            logger.warn("Enrichment of event with ID: {} exceeded the {}ms timeout", eventId, timeoutMs);
+            return EventEnrichmentResult.timeout(eventId, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            logger.error("Failed to enrich event with ID: {}", eventId, e);
+            return EventEnrichmentResult.failure(eventId, e.getMessage(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+    
+    private static String eventIdOf(Event event) {
+        return event != null ? event.getId() : null;
     }
     
     /**
@@ -138,4 +522,82 @@ public class EventEnrichmentService {
                (event.getContent() != null && !event.getContent().trim().isEmpty()) ||
                (event.getSummary() != null && !event.getSummary().trim().isEmpty());
     }
+    
+    private record TextField(String name, String text) {
+    }
+    
+    /**
+     * Enrichment of one event of a batch on the enrichment pool. The event's deadline starts when a
+     * worker picks the task up, not when it is submitted.
+     */
+    private final class EventTask implements Callable<EventEnrichmentResult> {
+        
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int SKIPPED = 3;
+        private static final int ABANDONED = 4;
+        
+        private final Event event;
+        private final long timeoutMs;
+        private final AtomicInteger backlog;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private volatile long deadlineNanos;
+        private Future<EventEnrichmentResult> future;
+        
+        EventTask(Event event, long timeoutMs, AtomicInteger backlog) {
+            this.event = event;
+            this.timeoutMs = timeoutMs;
+            this.backlog = backlog;
+        }
+        
+        @Override
+        public EventEnrichmentResult call() {
+            deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                return null;
+            }
+            backlog.decrementAndGet();
+            try {
+                return enrichWithOutcome(event, timeoutMs, deadlineNanos);
+            } finally {
+                if (!state.compareAndSet(RUNNING, DONE)) {
+                    // The batch gave up on this event; the worker is free again
+                    stalledWorkers.decrementAndGet();
+                }
+            }
+        }
+        
+        /**
+         * Waits for the outcome of the event, giving up on it at its deadline.
+         */
+        EventEnrichmentResult await() throws InterruptedException {
+            String eventId = eventIdOf(event);
+            while (true) {
+                int current = state.get();
+                if (current == NEW && (future == null || stalledWorkers.get() >= properties.getParallelism())
+                        && state.compareAndSet(NEW, SKIPPED)) {
+                    backlog.decrementAndGet();
+                    logger.warn("Enrichment of event with ID: {} skipped: every worker is held by a timed-out event",
+                            eventId);
+                    return EventEnrichmentResult.timeout(eventId, 0);
+                }
+                long waitNanos = current == RUNNING ? deadlineNanos - System.nanoTime() : START_POLL_NANOS;
+                try {
+                    return future.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (current == RUNNING && System.nanoTime() - deadlineNanos >= 0
+                            && state.compareAndSet(RUNNING, ABANDONED)) {
+                        stalledWorkers.incrementAndGet();
+                        logger.warn("Enrichment of event with ID: {} timed out after {}ms; giving up on it",
+                                eventId, timeoutMs);
+                        return EventEnrichmentResult.timeout(eventId, timeoutMs);
+                    }
+                } catch (ExecutionException e) {
+                    logger.error("Failed to enrich event with ID: {}", eventId, e.getCause());
+                    return EventEnrichmentResult.failure(eventId, String.valueOf(e.getCause()), 0);
+                }
+            }
+        }
+    }
 }
@@ -1,90 +1,262 @@
 package com.example.numaflow.service;
 
+import com.example.numaflow.config.NlpEngineProperties;
+import com.example.numaflow.metrics.EnrichmentMetrics;
 import com.example.numaflow.model.NamedEntity;
 import com.example.numaflow.model.TextSegment;
-import opennlp.tools.namefind.NameFinderME;
+import com.example.numaflow.nlp.EnrichmentTier;
+import com.example.numaflow.nlp.EntityCache;
+import com.example.numaflow.nlp.EntityRecognizer;
+import com.example.numaflow.nlp.GazetteerEntityRecognizer;
+import com.example.numaflow.nlp.MappedFileInputStream;
+import com.example.numaflow.nlp.NlpEnginePool;
+import com.example.numaflow.nlp.NlpModelSource;
+import com.example.numaflow.nlp.NlpModels;
+import com.example.numaflow.nlp.NlpPipeline;
+import com.example.numaflow.nlp.OpenNlpEntityRecognizer;
+import com.example.numaflow.nlp.OpenNlpSentenceSegmenter;
+import com.example.numaflow.nlp.OpenNlpTokenizer;
+import com.example.numaflow.nlp.ParallelModelLoader;
+import com.example.numaflow.nlp.RuleBasedEntityRecognizer;
+import com.example.numaflow.nlp.RuleBasedSentenceSegmenter;
+import com.example.numaflow.nlp.RuleBasedTokenizer;
+import com.example.numaflow.nlp.SegmentSink;
+import com.example.numaflow.nlp.SentenceSegmenter;
+import com.example.numaflow.nlp.StageTimer;
+import com.example.numaflow.nlp.Tokenizer;
 import opennlp.tools.namefind.TokenNameFinderModel;
-import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
-import opennlp.tools.tokenize.TokenizerME;
 import opennlp.tools.tokenize.TokenizerModel;
 import opennlp.tools.util.Span;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
- * Service for enriching text with sentence segmentation and named entity recognition using OpenNLP.
+ * Service for enriching text with sentence segmentation and named entity recognition.
+ * <p>
+ * Each field is enriched by an {@link NlpPipeline} of a {@link SentenceSegmenter}, a {@link Tokenizer}
+ * and {@link EntityRecognizer}s, selected per field through {@link NlpEngineProperties}. The OpenNLP
+ * models are loaded once and shared; the non thread-safe OpenNLP engines are taken from an
+ * {@link NlpEnginePool} per call, so the service can be used from any number of threads.
+ * <p>
+ * Cut-down pipelines for each {@link EnrichmentTier} are built alongside the configured ones, for
+ * {@link EventEnrichmentService} to fall back on under load.
  */
 @Service
 public class NlpEnrichmentService {
     
     private static final Logger logger = LoggerFactory.getLogger(NlpEnrichmentService.class);
     
-    @Value("classpath:models/en-sent.bin")
+    /**
+     * Number of sentences annotated by one fork/join task.
+     */
+    private static final int SEGMENTS_PER_TASK = 8;
+    
+    /**
+     * Entity recognizer setting that disables entity recognition for a field.
+     */
+    public static final String NO_ENTITY_RECOGNIZER = "none";
+    
+    /**
+     * Deadline of an enrichment that may take as long as it needs.
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+    
+    /**
+     * Field tag of the metrics of texts enriched with {@link #enrichText(String)}.
+     */
+    private static final String DEFAULT_FIELD = "default";
+    
+    @Value("${app.nlp.models.sentence-model:classpath:models/en-sent.bin}")
     private Resource sentenceModelResource;
     
-    @Value("classpath:models/en-token.bin")
+    @Value("${app.nlp.models.tokenizer-model:classpath:models/en-token.bin}")
     private Resource tokenizerModelResource;
     
-    @Value("classpath:models/en-ner-person.bin")
+    @Value("${app.nlp.models.ner-models.person:classpath:models/en-ner-person.bin}")
     private Resource personModelResource;
     
-    @Value("classpath:models/en-ner-location.bin")
+    @Value("${app.nlp.models.ner-models.location:classpath:models/en-ner-location.bin}")
     private Resource locationModelResource;
     
-    @Value("classpath:models/en-ner-organization.bin")
+    @Value("${app.nlp.models.ner-models.organization:classpath:models/en-ner-organization.bin}")
     private Resource organizationModelResource;
     
-    private SentenceDetectorME sentenceDetector;
-    private TokenizerME tokenizer;
-    private final Map<String, NameFinderME> nameFinders = new HashMap<>();
+    /**
+     * NER mode: {@code per-type} runs one model per entity type, {@code combined} runs a single
+     * multi-type model that labels each span with its type.
+     */
+    @Value("${app.nlp.models.ner-models.mode:per-type}")
+    private String nerMode;
+    
+    @Value("${app.nlp.models.ner-models.combined:classpath:models/en-ner-combined.bin}")
+    private Resource combinedModelResource;
+    
+    /**
+     * Texts at least this long have their sentences annotated in parallel when enriched on the sentence pool.
+     */
+    @Value("${app.nlp.parallel-segment-threshold:4096}")
+    private int parallelSegmentThreshold = 4096;
+    
+    /**
+     * When enabled, segments and entities carry only their offsets into the enriched field and
+     * no copy of the covered text; consumers resolve the text from the original event.
+     */
+    @Value("${app.nlp.offsets-only:false}")
+    private boolean offsetsOnly;
+    
+    /**
+     * Size of the window sentences are detected in when a field is enriched in streaming mode.
+     */
+    @Value("${app.nlp.streaming.window-chars:8192}")
+    private int streamingWindowChars = 8192;
+    
+    /**
+     * When enabled, traffic is taken as soon as the sentence model is loaded, while the tokenizer and
+     * NER models are still loading.
+     */
+    @Value("${app.nlp.models.serve-while-loading:false}")
+    private boolean serveWhileLoading;
+    
+    private volatile boolean loadingModels;
+    
+    private volatile Exception modelLoadFailure;
+    
+    @Value("${app.nlp.cache.enabled:true}")
+    private boolean cacheEnabled = true;
+    
+    /**
+     * Approximate maximum size of the sentence entity cache, in bytes.
+     */
+    @Value("${app.nlp.cache.maximum-weight:33554432}")
+    private long cacheMaximumWeight = EntityCache.DEFAULT_MAXIMUM_WEIGHT;
+    
+    private volatile EntityCache entityCache;
+    
+    private volatile ForkJoinPool sentencePool;
+    
+    private EnrichmentMetrics metrics = EnrichmentMetrics.disabled();
+    
+    private volatile NlpEnginePool enginePool = new NlpEnginePool(NlpModels.empty());
+    
+    // Engines shared by all pipelines; the OpenNLP ones use the rule-based ones while a model is missing
+    private final RuleBasedSentenceSegmenter ruleBasedSegmenter = new RuleBasedSentenceSegmenter();
+    private final RuleBasedTokenizer ruleBasedTokenizer = new RuleBasedTokenizer();
+    private final RuleBasedEntityRecognizer ruleBasedRecognizer = new RuleBasedEntityRecognizer();
+    private final OpenNlpSentenceSegmenter openNlpSegmenter =
+        new OpenNlpSentenceSegmenter(() -> enginePool, ruleBasedSegmenter);
+    private final OpenNlpTokenizer openNlpTokenizer = new OpenNlpTokenizer(() -> enginePool, ruleBasedTokenizer);
+    private final OpenNlpEntityRecognizer openNlpRecognizer =
+        new OpenNlpEntityRecognizer(() -> enginePool, ruleBasedRecognizer);
+    
+    private GazetteerEntityRecognizer gazetteerRecognizer;
+    
+    private NlpEngineProperties engineProperties = new NlpEngineProperties();
+    private volatile NlpPipeline defaultPipeline;
+    private volatile Map<String, NlpPipeline> fieldPipelines = Map.of();
+    private volatile Map<EnrichmentTier, TierPipelines> degradedPipelines = Map.of();
+    
+    /**
+     * Constructor used by Spring; models are loaded from the configured resources in {@link #initializeModels()}.
+     */
+    public NlpEnrichmentService() {
+        configurePipelines();
+    }
+    
+    /**
+     * Creates a service using already loaded models, for use outside of Spring.
+     * 
+     * @param models the models to use
+     */
+    public NlpEnrichmentService(NlpModels models) {
+        configurePipelines();
+        installModels(models);
+    }
+    
+    /**
+     * Selects the engines used for each field.
+     * 
+     * @param engineProperties the engine selection
+     * @throws IllegalArgumentException if an engine name is unknown
+     */
+    @Autowired(required = false)
+    public void setEngineProperties(NlpEngineProperties engineProperties) {
+        this.engineProperties = engineProperties;
+        configurePipelines();
+    }
+    
+    /**
+     * Stops watching the gazetteer file of the dictionary entity recognizer.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (gazetteerRecognizer != null) {
+            gazetteerRecognizer.close();
+        }
+    }
     
     @PostConstruct
     public void initializeModels() {
         logger.info("Initializing OpenNLP models...");
         
-        try {
-            // Initialize sentence detector
-            if (sentenceModelResource.exists()) {
-                try (InputStream modelIn = sentenceModelResource.getInputStream()) {
-                    SentenceModel sentenceModel = new SentenceModel(modelIn);
-                    sentenceDetector = new SentenceDetectorME(sentenceModel);
-                    logger.info("Sentence detection model loaded successfully");
+        if (cacheEnabled && entityCache == null) {
+            setEntityCache(new EntityCache(cacheMaximumWeight));
+        }
+        
+        ParallelModelLoader loader = new ParallelModelLoader();
+        if (sentenceModelResource.exists()) {
+            loader.add("sentence model", () -> {
+                try (InputStream modelIn = openModel(sentenceModelResource)) {
+                    SentenceModel model = new SentenceModel(modelIn);
+                    return models -> models.sentenceModel(model);
                 }
-            } else {
-                logger.warn("Sentence model not found, using fallback implementation");
-                // We'll create a fallback implementation
-            }
-            
-            // Initialize tokenizer
-            if (tokenizerModelResource.exists()) {
-                try (InputStream modelIn = tokenizerModelResource.getInputStream()) {
-                    TokenizerModel tokenizerModel = new TokenizerModel(modelIn);
-                    tokenizer = new TokenizerME(tokenizerModel);
-                    logger.info("Tokenizer model loaded successfully");
+            });
+        } else {
+            logger.warn("Sentence model not found, using fallback implementation");
+        }
+        
+        if (tokenizerModelResource.exists()) {
+            loader.add("tokenizer model", () -> {
+                try (InputStream modelIn = openModel(tokenizerModelResource)) {
+                    TokenizerModel model = new TokenizerModel(modelIn);
+                    return models -> models.tokenizerModel(model);
                 }
-            } else {
-                logger.warn("Tokenizer model not found, using fallback implementation");
-            }
-            
-            // Initialize NER models
-            initializeNerModel(personModelResource, "PERSON");
-            initializeNerModel(locationModelResource, "LOCATION");
-            initializeNerModel(organizationModelResource, "ORGANIZATION");
-            
-            logger.info("OpenNLP models initialization completed");
-            
+            });
+        } else {
+            logger.warn("Tokenizer model not found, using fallback implementation");
+        }
+        
+        nerModelResources().forEach((entityType, modelResource) -> addNerModel(loader, modelResource, entityType));
+        
+        try {
+            loadModels(progress -> {
+                NlpModels models = loader.load(progress);
+                if (!loader.getProblems().isEmpty()) {
+                    logger.error("Failed to load OpenNLP models, using fallback implementations for them: {}",
+                                 loader.getProblems());
+                }
+                return models;
+            });
         } catch (IOException e) {
             logger.error("Failed to initialize OpenNLP models", e);
             // Initialize fallback implementations
@@ -92,207 +264,749 @@ public class NlpEnrichmentService {
         }
     }
     
-    private void initializeNerModel(Resource modelResource, String entityType) {
-        try {
-            if (modelResource.exists()) {
-                try (InputStream modelIn = modelResource.getInputStream()) {
+    /**
+     * Returns the name finder model resources of the NER mode, keyed by the name finder they are
+     * registered under: the entity type, or {@link NlpModels#COMBINED_NER} for the combined model.
+     */
+    Map<String, Resource> nerModelResources() {
+        Map<String, Resource> resources = new LinkedHashMap<>();
+        if (NlpModels.COMBINED_NER_MODE.equalsIgnoreCase(nerMode)) {
+            resources.put(NlpModels.COMBINED_NER, combinedModelResource);
+        } else {
+            resources.put("PERSON", personModelResource);
+            resources.put("LOCATION", locationModelResource);
+            resources.put("ORGANIZATION", organizationModelResource);
+        }
+        return resources;
+    }
+    
+    private void addNerModel(ParallelModelLoader loader, Resource modelResource, String entityType) {
+        if (modelResource.exists()) {
+            loader.add("NER model for " + entityType, () -> {
+                try (InputStream modelIn = openModel(modelResource)) {
                     TokenNameFinderModel model = new TokenNameFinderModel(modelIn);
-                    nameFinders.put(entityType, new NameFinderME(model));
-                    logger.info("NER model for {} loaded successfully", entityType);
+                    return models -> models.nameFinderModel(entityType, model);
                 }
-            } else {
-                logger.warn("NER model for {} not found", entityType);
+            });
+        } else {
+            logger.warn("NER model for {} not found", entityType);
+        }
+    }
+    
+    /**
+     * Loads and installs models. All models are loaded concurrently by the source. Unless the service
+     * serves while loading, this returns once every model is installed; otherwise it returns as soon as
+     * the sentence model is in, so segmentation can be served while the remaining models load in the
+     * background and are installed one by one. Until then the entity recognizers use their rule-based
+     * fallbacks and {@link #isLoadingModels()} is {@code true}.
+     * 
+     * @param source loads the models
+     * @throws IOException if the source fails before this method returns
+     */
+    public void loadModels(NlpModelSource source) throws IOException {
+        modelLoadFailure = null;
+        loadingModels = true;
+        long start = System.nanoTime();
+        
+        if (!serveWhileLoading) {
+            try {
+                installModels(source.load(models -> { }));
+            } finally {
+                loadingModels = false;
             }
-        } catch (IOException e) {
-            logger.error("Failed to load NER model for {}", entityType, e);
+            logger.info("NLP models ready in {}ms", (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+        
+        CountDownLatch segmentationReady = new CountDownLatch(1);
+        Thread loaderThread = new Thread(() -> {
+            try {
+                installModels(source.load(models -> {
+                    installModels(models);
+                    if (models.hasSentenceModel()) {
+                        segmentationReady.countDown();
+                    }
+                }));
+                logger.info("NLP models ready in {}ms", (System.nanoTime() - start) / 1_000_000);
+            } catch (IOException | RuntimeException e) {
+                modelLoadFailure = e;
+                logger.error("Failed to load NLP models", e);
+            } finally {
+                loadingModels = false;
+                segmentationReady.countDown();
+            }
+        }, "nlp-model-loading");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+        
+        try {
+            segmentationReady.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the sentence model");
+        }
+        Exception failure = modelLoadFailure;
+        if (failure != null) {
+            throw failure instanceof IOException io ? io : new IOException(failure);
+        }
+        if (loadingModels) {
+            logger.info("Serving sentence segmentation after {}ms while the remaining NLP models load",
+                        (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+    
+    /**
+     * Returns whether the service can take traffic: all models are loaded or, when serving while
+     * loading, at least the sentence model is; and loading did not fail.
+     */
+    public boolean isReady() {
+        if (modelLoadFailure != null) {
+            return false;
+        }
+        return !loadingModels || (serveWhileLoading && getModels().hasSentenceModel());
+    }
+    
+    /**
+     * Returns whether models are still being loaded in the background.
+     */
+    public boolean isLoadingModels() {
+        return loadingModels;
+    }
+    
+    /**
+     * Enables serving sentence segmentation before the remaining models are loaded, see {@link #loadModels}.
+     */
+    public void setServeWhileLoading(boolean serveWhileLoading) {
+        this.serveWhileLoading = serveWhileLoading;
+    }
+    
+    /**
+     * Opens a model resource, through a memory mapping when it is a plain file such as a mounted model volume.
+     */
+    private static InputStream openModel(Resource modelResource) throws IOException {
+        if (modelResource.isFile()) {
+            return MappedFileInputStream.open(modelResource.getFile().toPath());
         }
+        return modelResource.getInputStream();
     }
     
     private void initializeFallbackModels() {
         logger.info("Initializing fallback NLP implementations");
         // Fallback models will be simple rule-based implementations
+        installModels(NlpModels.empty());
+    }
+    
+    /**
+     * Replaces the models used by this service. Engines created from the previous models are
+     * discarded once the calls currently using them complete. The entity cache is invalidated after
+     * the swap, so entities those calls still extract on the previous models are never served again.
+     * 
+     * @param models the models to use from now on
+     */
+    public void installModels(NlpModels models) {
+        this.enginePool = new NlpEnginePool(models);
+        invalidateEntityCache();
+        logger.info("Installed NLP models: {}", models);
+    }
+    
+    /**
+     * Sets the cache used to reuse the entities of repeated sentences, or {@code null} to disable caching.
+     */
+    public void setEntityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+        logger.info("Sentence entity cache {}", entityCache != null ? "enabled" : "disabled");
+    }
+    
+    /**
+     * Returns the sentence entity cache, or {@code null} if caching is disabled.
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+    
+    /**
+     * Sets the metrics recording the duration of each pipeline stage and the segments and entities found.
+     */
+    @Autowired(required = false)
+    public void setMetrics(EnrichmentMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    public EnrichmentMetrics getMetrics() {
+        return metrics;
+    }
+    
+    private void invalidateEntityCache() {
+        EntityCache cache = entityCache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+    
+    /**
+     * Returns the models currently in use.
+     */
+    public NlpModels getModels() {
+        return enginePool.getModels();
+    }
+    
+    /**
+     * Returns the pipeline used for a field.
+     * 
+     * @param fieldName the name of the field (e.g., "title", "description")
+     * @return the field's pipeline, or the default pipeline if the field has none of its own
+     */
+    public NlpPipeline getPipeline(String fieldName) {
+        return fieldPipelines.getOrDefault(fieldName, defaultPipeline);
+    }
+    
+    /**
+     * Returns the pipeline used for a field at an enrichment tier.
+     * 
+     * @param fieldName the name of the field
+     * @param tier the tier; {@link EnrichmentTier#FULL} is the field's configured pipeline
+     * @return the field's pipeline, cut down as the tier requires
+     */
+    public NlpPipeline getPipeline(String fieldName, EnrichmentTier tier) {
+        if (tier == EnrichmentTier.FULL) {
+            return getPipeline(fieldName);
+        }
+        return degradedPipelines.get(tier).get(fieldName);
+    }
+    
+    /**
+     * Builds the default pipeline and the pipelines of the fields with their own engine selection.
+     */
+    private synchronized void configurePipelines() {
+        NlpEngineProperties properties = engineProperties;
+        
+        // The dictionary recognizer is created again from the new settings when a pipeline uses it
+        GazetteerEntityRecognizer previousGazetteer = gazetteerRecognizer;
+        gazetteerRecognizer = null;
+        
+        NlpPipeline defaults;
+        Map<String, NlpPipeline> pipelines = new LinkedHashMap<>();
+        Map<EnrichmentTier, TierPipelines> degraded = new EnumMap<>(EnrichmentTier.class);
+        try {
+            EngineNames defaultEngines = new EngineNames(properties.getSentenceSegmenter(), properties.getTokenizer(),
+                                                         properties.getEntityRecognizers());
+            Map<String, EngineNames> fieldEngines = new LinkedHashMap<>();
+            for (Map.Entry<String, NlpEngineProperties.FieldEngines> entry : properties.getFields().entrySet()) {
+                NlpEngineProperties.FieldEngines field = entry.getValue();
+                fieldEngines.put(entry.getKey(), new EngineNames(
+                    field.getSentenceSegmenter() != null ? field.getSentenceSegmenter() : properties.getSentenceSegmenter(),
+                    field.getTokenizer() != null ? field.getTokenizer() : properties.getTokenizer(),
+                    field.getEntityRecognizers() != null ? field.getEntityRecognizers() : properties.getEntityRecognizers()
+                ));
+            }
+            
+            defaults = createPipeline(defaultEngines);
+            fieldEngines.forEach((fieldName, engines) -> pipelines.put(fieldName, createPipeline(engines)));
+            
+            // The content field drops entity recognition from the first degraded tier on, so it
+            // gets its own degraded pipeline even when it uses the default engines
+            for (EnrichmentTier tier : EnrichmentTier.values()) {
+                if (tier == EnrichmentTier.FULL) {
+                    continue;
+                }
+                Map<String, NlpPipeline> tierFields = new LinkedHashMap<>();
+                fieldEngines.forEach((fieldName, engines) ->
+                    tierFields.put(fieldName, createPipeline(engines.forTier(tier, fieldName))));
+                tierFields.computeIfAbsent(EnrichmentTier.CONTENT_FIELD, fieldName ->
+                    createPipeline(defaultEngines.forTier(tier, fieldName)));
+                degraded.put(tier, new TierPipelines(
+                    createPipeline(defaultEngines.forTier(tier, DEFAULT_FIELD)), Map.copyOf(tierFields)));
+            }
+        } catch (RuntimeException e) {
+            if (gazetteerRecognizer != null) {
+                gazetteerRecognizer.close();
+            }
+            gazetteerRecognizer = previousGazetteer;
+            throw e;
+        }
+        
+        if (previousGazetteer != null) {
+            previousGazetteer.close();
+        }
+        if (gazetteerRecognizer != null) {
+            gazetteerRecognizer.watch(properties.getGazetteer().getReloadIntervalMs());
+        }
+        
+        this.defaultPipeline = defaults;
+        this.fieldPipelines = Map.copyOf(pipelines);
+        this.degradedPipelines = degraded;
+        logger.info("NLP pipelines: default={}, fields={}", defaults, pipelines);
+    }
+    
+    private NlpPipeline createPipeline(EngineNames engines) {
+        List<String> names = new ArrayList<>();
+        List<EntityRecognizer> recognizers = new ArrayList<>();
+        for (String name : engines.entityRecognizers()) {
+            if (!NO_ENTITY_RECOGNIZER.equalsIgnoreCase(name)) {
+                names.add(name);
+                recognizers.add(entityRecognizer(name));
+            }
+        }
+        return new NlpPipeline(engines.sentenceSegmenter(), sentenceSegmenter(engines.sentenceSegmenter()),
+                               engines.tokenizer(), tokenizer(engines.tokenizer()),
+                               names, recognizers);
+    }
+    
+    private SentenceSegmenter sentenceSegmenter(String name) {
+        return switch (name) {
+            case NlpEngineProperties.OPENNLP, "auto" -> openNlpSegmenter;
+            case NlpEngineProperties.RULE_BASED -> ruleBasedSegmenter;
+            default -> throw new IllegalArgumentException("Unknown sentence segmenter: " + name);
+        };
+    }
+    
+    private Tokenizer tokenizer(String name) {
+        return switch (name) {
+            case NlpEngineProperties.OPENNLP -> openNlpTokenizer;
+            case NlpEngineProperties.RULE_BASED -> ruleBasedTokenizer;
+            default -> throw new IllegalArgumentException("Unknown tokenizer: " + name);
+        };
+    }
+    
+    private EntityRecognizer entityRecognizer(String name) {
+        return switch (name) {
+            case NlpEngineProperties.OPENNLP -> openNlpRecognizer;
+            case NlpEngineProperties.RULE_BASED -> ruleBasedRecognizer;
+            case NlpEngineProperties.DICTIONARY -> gazetteerRecognizer();
+            default -> throw new IllegalArgumentException("Unknown entity recognizer: " + name);
+        };
+    }
+    
+    private GazetteerEntityRecognizer gazetteerRecognizer() {
+        if (gazetteerRecognizer != null) {
+            return gazetteerRecognizer;
+        }
+        
+        NlpEngineProperties.GazetteerSettings settings = engineProperties.getGazetteer();
+        if (settings.getPath() == null || settings.getPath().isBlank()) {
+            throw new IllegalArgumentException("The " + NlpEngineProperties.DICTIONARY
+                + " entity recognizer requires app.nlp.gazetteer.path");
+        }
+        try {
+            GazetteerEntityRecognizer recognizer = new GazetteerEntityRecognizer(
+                Path.of(settings.getPath()),
+                settings.isIgnoreCase(),
+                GazetteerEntityRecognizer.Mode.fromName(settings.getMode())
+            );
+            // Cached entities of the old dictionary are stale once it is reloaded
+            recognizer.addReloadListener(this::invalidateEntityCache);
+            gazetteerRecognizer = recognizer;
+            return recognizer;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load gazetteer " + settings.getPath(), e);
+        }
     }
     
     /**
-     * Enriches text by performing sentence segmentation and named entity recognition.
+     * Enriches text by performing sentence segmentation and named entity recognition
+     * with the default pipeline.
      * 
      * @param text the input text to enrich
      * @return list of text segments with NER annotations
      */
     public List<TextSegment> enrichText(String text) {
+        return enrichText(DEFAULT_FIELD, defaultPipeline, text, NO_DEADLINE);
+    }
+    
+    /**
+     * Enriches the text of an event field with the pipeline selected for that field.
+     * 
+     * @param fieldName the name of the field (e.g., "title", "description")
+     * @param text the input text to enrich
+     * @return list of text segments with NER annotations
+     */
+    public List<TextSegment> enrichField(String fieldName, String text) {
+        return enrichText(fieldName, getPipeline(fieldName), text, NO_DEADLINE);
+    }
+    
+    /**
+     * Enriches the text of an event field with the field's pipeline at an enrichment tier.
+     * 
+     * @param fieldName the name of the field (e.g., "title", "description")
+     * @param text the input text to enrich
+     * @param tier the tier to enrich at
+     * @return list of text segments, with NER annotations unless the tier skips them for this field
+     */
+    public List<TextSegment> enrichField(String fieldName, String text, EnrichmentTier tier) {
+        return enrichField(fieldName, text, tier, NO_DEADLINE);
+    }
+    
+    /**
+     * Enriches the text of an event field at an enrichment tier, giving up once a deadline has passed.
+     * The deadline is checked before each sentence is annotated.
+     * 
+     * @param fieldName the name of the field (e.g., "title", "description")
+     * @param text the input text to enrich
+     * @param tier the tier to enrich at
+     * @param deadlineNanos the {@link System#nanoTime()} by which enrichment must be done, or {@link #NO_DEADLINE}
+     * @return list of text segments, with NER annotations unless the tier skips them for this field
+     * @throws EnrichmentTimeoutException if the deadline passes before all sentences are annotated
+     */
+    public List<TextSegment> enrichField(String fieldName, String text, EnrichmentTier tier, long deadlineNanos) {
+        return enrichText(fieldName, getPipeline(fieldName, tier), text, deadlineNanos);
+    }
+    
+    /**
+     * Throws an {@link EnrichmentTimeoutException} if a deadline has passed.
+     * 
+     * @param deadlineNanos the {@link System#nanoTime()} of the deadline, or {@link #NO_DEADLINE}
+     */
+    static void checkDeadline(long deadlineNanos) {
+        if (deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos > 0) {
+            throw new EnrichmentTimeoutException("Enrichment deadline exceeded");
+        }
+    }
+    
+    private List<TextSegment> enrichText(String fieldName, NlpPipeline pipeline, String text, long deadlineNanos) {
         if (text == null || text.trim().isEmpty()) {
             return new ArrayList<>();
         }
         
-        logger.debug("Enriching text: {}", text.substring(0, Math.min(100, text.length())));
+        logger.debug("Enriching text with {}: {}", pipeline, text.substring(0, Math.min(100, text.length())));
         
-        List<TextSegment> segments = segmentText(text);
+        StageTimer timer = metrics.forField(fieldName, text.length());
+        List<TextSegment> segments = segmentText(pipeline, timer, text);
         
-        // Add named entities to each segment
-        for (TextSegment segment : segments) {
-            List<NamedEntity> entities = extractNamedEntities(segment.getText(), segment.getStartIndex());
-            segment.setNamedEntities(entities);
+        // Long texts processed on a worker of the sentence pool fan their sentences out over it
+        ForkJoinPool pool = sentencePool;
+        boolean parallel = segments.size() > SEGMENTS_PER_TASK
+            && text.length() >= parallelSegmentThreshold
+            && pool != null && ForkJoinTask.getPool() == pool;
+        
+        if (parallel) {
+            new EntityExtractionTask(pipeline, timer, text, segments, 0, segments.size(), deadlineNanos).invoke();
+        } else {
+            annotateSegments(pipeline, timer, text, segments, 0, segments.size(), deadlineNanos);
         }
+        metrics.countSegments(fieldName, text.length(), segments);
         
         logger.debug("Text enrichment completed. Found {} segments", segments.size());
         return segments;
     }
     
+    /**
+     * Enriches the text of an event field sentence by sentence, handing each segment to a sink as soon
+     * as its entities are found instead of returning all segments at the end.
+     * <p>
+     * Sentences are detected in a window of {@code app.nlp.streaming.window-chars} characters that slides
+     * along the text. Every sentence of the window but the last, which may continue past the window, is
+     * enriched and emitted, and the next window starts after it. Besides the text itself, only the window
+     * and the current segment are held, however long the field is. A sentence longer than the window is
+     * split at the last whitespace of the window. Offsets are relative to the whole field, as with
+     * {@link #enrichField(String, String)}.
+     * 
+     * @param fieldName the name of the field (e.g., "content")
+     * @param text the field text
+     * @param sink receives the segments, in order
+     * @return the number of segments emitted
+     * @throws IOException if the sink fails
+     */
+    public int enrichFieldStreaming(String fieldName, CharSequence text, SegmentSink sink) throws IOException {
+        return enrichFieldStreaming(fieldName, text, EnrichmentTier.FULL, sink);
+    }
+    
+    /**
+     * Enriches the text of an event field sentence by sentence like
+     * {@link #enrichFieldStreaming(String, CharSequence, SegmentSink)}, at an enrichment tier.
+     */
+    public int enrichFieldStreaming(String fieldName, CharSequence text, EnrichmentTier tier, SegmentSink sink)
+            throws IOException {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return new FieldStream(fieldName, getPipeline(fieldName, tier), text, sink).run();
+    }
+    
+    /**
+     * Sets the size of the sentence detection window of streaming enrichment, in characters.
+     */
+    public void setStreamingWindowChars(int streamingWindowChars) {
+        if (streamingWindowChars <= 0) {
+            throw new IllegalArgumentException("Streaming window must be positive: " + streamingWindowChars);
+        }
+        this.streamingWindowChars = streamingWindowChars;
+    }
+    
+    /**
+     * Adds named entities to the segments in the given range.
+     * In offsets-only mode the sentence text is only materialized for the duration of the extraction.
+     */
+    private void annotateSegments(NlpPipeline pipeline, StageTimer timer, String text, List<TextSegment> segments,
+                                  int from, int to, long deadlineNanos) {
+        for (int i = from; i < to; i++) {
+            checkDeadline(deadlineNanos);
+            TextSegment segment = segments.get(i);
+            String sentenceText = segment.resolveText(text);
+            List<NamedEntity> entities = extractNamedEntities(pipeline, timer, sentenceText, segment.getStartIndex());
+            if (offsetsOnly) {
+                segment.setText(null);
+                for (NamedEntity entity : entities) {
+                    entity.setText(null);
+                }
+            }
+            segment.setNamedEntities(entities);
+        }
+    }
+    
+    /**
+     * Sets the minimum text length, in characters, for which sentences are processed in parallel.
+     */
+    public void setParallelSegmentThreshold(int parallelSegmentThreshold) {
+        this.parallelSegmentThreshold = parallelSegmentThreshold;
+    }
+    
+    /**
+     * Sets the pool the sentences of long fields are fanned out over. Only fields enriched by a worker of
+     * this pool are fanned out; on any other thread, including other pools, sentences are annotated in turn.
+     * 
+     * @param sentencePool the pool, or {@code null} to always annotate sentences in turn
+     */
+    public void setSentencePool(ForkJoinPool sentencePool) {
+        this.sentencePool = sentencePool;
+    }
+    
+    /**
+     * Returns whether segments and entities are produced without their text.
+     */
+    public boolean isOffsetsOnly() {
+        return offsetsOnly;
+    }
+    
+    /**
+     * Enables or disables offsets-only output, in which segments and entities carry no text copies.
+     */
+    public void setOffsetsOnly(boolean offsetsOnly) {
+        this.offsetsOnly = offsetsOnly;
+    }
+    
     /**
      * Segments text into sentences.
      * 
+     * @param pipeline the pipeline of the field
+     * @param timer records the duration of sentence detection
      * @param text the input text
      * @return list of text segments (sentences)
      */
-    private List<TextSegment> segmentText(String text) {
-        List<TextSegment> segments = new ArrayList<>();
+    private List<TextSegment> segmentText(NlpPipeline pipeline, StageTimer timer, String text) {
+        Span[] sentenceSpans = pipeline.segment(text, timer);
         
-        if (sentenceDetector != null) {
-            // Use OpenNLP sentence detector
-            Span[] sentenceSpans = sentenceDetector.sentPosDetect(text);
+        List<TextSegment> segments = new ArrayList<>(sentenceSpans.length);
+        for (int i = 0; i < sentenceSpans.length; i++) {
+            Span span = sentenceSpans[i];
             
-            for (int i = 0; i < sentenceSpans.length; i++) {
-                Span span = sentenceSpans[i];
-                String sentenceText = text.substring(span.getStart(), span.getEnd()).trim();
-                
-                if (!sentenceText.isEmpty()) {
-                    TextSegment segment = new TextSegment(
-                        sentenceText,
-                        span.getStart(),
-                        span.getEnd(),
-                        i + 1
-                    );
-                    segments.add(segment);
-                }
+            // Trim the span itself so the offsets cover exactly the sentence text
+            int start = span.getStart();
+            int end = span.getEnd();
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            
+            if (start < end) {
+                TextSegment segment = new TextSegment(
+                    offsetsOnly ? null : text.substring(start, end),
+                    start,
+                    end,
+                    i + 1
+                );
+                segments.add(segment);
             }
-        } else {
-            // Fallback: simple sentence splitting
-            segments = fallbackSentenceSegmentation(text);
         }
         
         return segments;
     }
     
     /**
-     * Fallback sentence segmentation using simple rules.
+     * Extracts named entities from a sentence, reusing the cached entities of a repeated sentence.
+     * 
+     * @param pipeline the pipeline of the field
+     * @param timer records the duration of tokenization and entity recognition, on cache misses
+     * @param sentence the sentence text
+     * @param sentenceStart the start index of the sentence within the field
+     * @return list of named entities, with offsets within the field
      */
-    private List<TextSegment> fallbackSentenceSegmentation(String text) {
-        List<TextSegment> segments = new ArrayList<>();
+    private List<NamedEntity> extractNamedEntities(NlpPipeline pipeline, StageTimer timer, String sentence,
+                                                   int sentenceStart) {
+        if (!pipeline.recognizesEntities()) {
+            return new ArrayList<>();
+        }
         
-        // Simple sentence splitting by periods, exclamation marks, and question marks
-        String[] sentences = text.split("(?<=[.!?])\\s+");
-        int currentIndex = 0;
+        EntityCache cache = entityCache;
+        if (cache != null) {
+            return cache.get(pipeline.getEntityStageName(), sentence, sentenceStart,
+                             uncached -> pipeline.recognize(uncached, timer));
+        }
         
-        for (int i = 0; i < sentences.length; i++) {
-            String sentence = sentences[i].trim();
-            if (!sentence.isEmpty()) {
-                int startIndex = text.indexOf(sentence, currentIndex);
-                int endIndex = startIndex + sentence.length();
-                
-                TextSegment segment = new TextSegment(sentence, startIndex, endIndex, i + 1);
-                segments.add(segment);
-                
-                currentIndex = endIndex;
-            }
+        List<NamedEntity> entities = pipeline.recognize(sentence, timer);
+        for (NamedEntity entity : entities) {
+            entity.setStartIndex(sentenceStart + entity.getStartIndex());
+            entity.setEndIndex(sentenceStart + entity.getEndIndex());
         }
+        return entities;
+    }
+    
+    /**
+     * Annotates a range of segments, splitting it in halves until each task has few enough sentences.
+     * The pipeline engines are safe for concurrent use, so leaf tasks run on any worker.
+     */
+    private final class EntityExtractionTask extends RecursiveAction {
         
-        return segments;
+        private final NlpPipeline pipeline;
+        private final StageTimer timer;
+        private final String text;
+        private final List<TextSegment> segments;
+        private final int from;
+        private final int to;
+        private final long deadlineNanos;
+        
+        EntityExtractionTask(NlpPipeline pipeline, StageTimer timer, String text, List<TextSegment> segments,
+                             int from, int to, long deadlineNanos) {
+            this.pipeline = pipeline;
+            this.timer = timer;
+            this.text = text;
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.deadlineNanos = deadlineNanos;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= SEGMENTS_PER_TASK) {
+                annotateSegments(pipeline, timer, text, segments, from, to, deadlineNanos);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new EntityExtractionTask(pipeline, timer, text, segments, from, mid, deadlineNanos),
+                          new EntityExtractionTask(pipeline, timer, text, segments, mid, to, deadlineNanos));
+            }
+        }
     }
     
     /**
-     * Extracts named entities from text.
-     * 
-     * @param text the input text
-     * @param textStartIndex the start index of this text within the larger document
-     * @return list of named entities
+     * Names of the engines of a pipeline.
      */
-    private List<NamedEntity> extractNamedEntities(String text, int textStartIndex) {
-        List<NamedEntity> entities = new ArrayList<>();
+    private record EngineNames(String sentenceSegmenter, String tokenizer, List<String> entityRecognizers) {
         
-        if (tokenizer != null && !nameFinders.isEmpty()) {
-            // Tokenize the text
-            String[] tokens = tokenizer.tokenize(text);
-            Span[] tokenSpans = tokenizer.tokenizePos(text);
-            
-            // Apply each NER model
-            for (Map.Entry<String, NameFinderME> entry : nameFinders.entrySet()) {
-                String entityType = entry.getKey();
-                NameFinderME finder = entry.getValue();
-                
-                Span[] entitySpans = finder.find(tokens);
-                
-                for (Span entitySpan : entitySpans) {
-                    // Get the text for this entity
-                    StringBuilder entityText = new StringBuilder();
-                    int entityStartIndex = tokenSpans[entitySpan.getStart()].getStart();
-                    int entityEndIndex = tokenSpans[entitySpan.getEnd() - 1].getEnd();
-                    
-                    for (int i = entitySpan.getStart(); i < entitySpan.getEnd(); i++) {
-                        if (entityText.length() > 0) {
-                            entityText.append(" ");
-                        }
-                        entityText.append(tokens[i]);
-                    }
-                    
-                    NamedEntity entity = new NamedEntity(
-                        entityText.toString(),
-                        entityType,
-                        textStartIndex + entityStartIndex,
-                        textStartIndex + entityEndIndex,
-                        entitySpan.getProb()
-                    );
-                    
-                    entities.add(entity);
-                }
-                
-                // Clear adaptive data
-                finder.clearAdaptiveData();
+        /**
+         * Returns the engines of a field at a tier: the same sentence segmenter, with no entity
+         * recognition or only the rule-based recognizer as the tier requires.
+         */
+        EngineNames forTier(EnrichmentTier tier, String fieldName) {
+            if (tier.skipsEntities(fieldName)) {
+                return new EngineNames(sentenceSegmenter, tokenizer, List.of());
             }
-        } else {
-            // Fallback NER implementation
-            entities = fallbackNamedEntityRecognition(text, textStartIndex);
+            boolean recognizesEntities = entityRecognizers.stream()
+                .anyMatch(name -> !NO_ENTITY_RECOGNIZER.equalsIgnoreCase(name));
+            if (tier.usesRuleBasedEntities() && recognizesEntities) {
+                return new EngineNames(sentenceSegmenter, NlpEngineProperties.RULE_BASED,
+                                       List.of(NlpEngineProperties.RULE_BASED));
+            }
+            return this;
         }
+    }
+    
+    /**
+     * The pipelines of one degraded tier.
+     */
+    private record TierPipelines(NlpPipeline defaults, Map<String, NlpPipeline> fields) {
         
-        return entities;
+        NlpPipeline get(String fieldName) {
+            return fields.getOrDefault(fieldName, defaults);
+        }
     }
     
     /**
-     * Fallback named entity recognition using simple patterns.
+     * Streaming enrichment of one field; see {@link #enrichFieldStreaming(String, CharSequence, SegmentSink)}.
      */
-    private List<NamedEntity> fallbackNamedEntityRecognition(String text, int textStartIndex) {
-        List<NamedEntity> entities = new ArrayList<>();
+    private final class FieldStream {
+        
+        private final String fieldName;
+        private final NlpPipeline pipeline;
+        private final CharSequence text;
+        private final SegmentSink sink;
+        private final StageTimer timer;
+        private final boolean offsetsOnly = NlpEnrichmentService.this.offsetsOnly;
+        private int segmentCount;
         
-        // Simple pattern-based NER (this is very basic and should be improved)
-        // Look for capitalized words as potential entities
-        String[] words = text.split("\\s+");
-        int currentIndex = 0;
+        FieldStream(String fieldName, NlpPipeline pipeline, CharSequence text, SegmentSink sink) {
+            this.fieldName = fieldName;
+            this.pipeline = pipeline;
+            this.text = text;
+            this.sink = sink;
+            this.timer = metrics.forField(fieldName, text.length());
+        }
         
-        for (String word : words) {
-            // Find the word in the original text to get accurate positions
-            int wordStart = text.indexOf(word, currentIndex);
-            if (wordStart != -1) {
-                int wordEnd = wordStart + word.length();
+        int run() throws IOException {
+            int length = text.length();
+            int windowSize = streamingWindowChars;
+            int windowStart = 0;
+            while (windowStart < length) {
+                int windowEnd = Math.min(length, windowStart + windowSize);
+                boolean lastWindow = windowEnd == length;
+                String window = text.subSequence(windowStart, windowEnd).toString();
+                Span[] sentenceSpans = pipeline.segment(window, timer);
                 
-                // Simple heuristic: if word is capitalized, might be an entity
-                // Clean the word first (remove punctuation)
-                String cleanWord = word.replaceAll("[.!?,:;]", "");
-                if (Character.isUpperCase(cleanWord.charAt(0)) && cleanWord.length() > 1) {
-                    // This is a very simple heuristic - in practice you'd want better rules
-                    // Use the cleaned word as the entity text but keep original positions
-                    NamedEntity entity = new NamedEntity(
-                        cleanWord,
-                        "UNKNOWN", // Generic type for fallback
-                        textStartIndex + wordStart,
-                        textStartIndex + wordStart + cleanWord.length(),
-                        0.5 // Low confidence for fallback
-                    );
-                    entities.add(entity);
+                // The last sentence of the window may continue past it, unless the text ends there
+                int complete = lastWindow ? sentenceSpans.length : sentenceSpans.length - 1;
+                for (int i = 0; i < complete; i++) {
+                    emit(window, windowStart, sentenceSpans[i].getStart(), sentenceSpans[i].getEnd());
                 }
                 
-                currentIndex = wordEnd;
+                int consumed;
+                if (lastWindow) {
+                    consumed = window.length();
+                } else if (complete > 0) {
+                    consumed = sentenceSpans[complete - 1].getEnd();
+                } else {
+                    // No sentence ends within the window: cut the sentence at its last whitespace
+                    consumed = splitPoint(window);
+                    emit(window, windowStart, 0, consumed);
+                }
+                windowStart += consumed;
             }
+            return segmentCount;
         }
         
-        return entities;
+        private void emit(String window, int windowStart, int start, int end) throws IOException {
+            // Trim the span itself so the offsets cover exactly the sentence text
+            while (start < end && window.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && window.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                return;
+            }
+            
+            String sentence = window.substring(start, end);
+            TextSegment segment = new TextSegment(offsetsOnly ? null : sentence,
+                windowStart + start, windowStart + end, ++segmentCount);
+            List<NamedEntity> entities = extractNamedEntities(pipeline, timer, sentence, windowStart + start);
+            if (offsetsOnly) {
+                for (NamedEntity entity : entities) {
+                    entity.setText(null);
+                }
+            }
+            segment.setNamedEntities(entities);
+            metrics.countSegment(fieldName, text.length(), segment);
+            sink.accept(segment);
+        }
+        
+        private static int splitPoint(String window) {
+            for (int i = window.length() - 1; i > 0; i--) {
+                if (window.charAt(i) <= ' ') {
+                    return i;
+                }
+            }
+            return window.length();
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.example.numaflow.standalone;
+
+import com.example.numaflow.config.EnvironmentSettings;
+import com.example.numaflow.metrics.EnrichmentMetrics;
+import com.example.numaflow.model.EnrichedEvent;
+import com.example.numaflow.model.Event;
+import com.example.numaflow.nlp.EntityCache;
+import com.example.numaflow.service.DegradationController;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.example.numaflow.service.TestDataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Pushes synthetic events from {@link TestDataGenerator} through the enrichment path before the UDF
+ * server starts, so the first production messages run on JIT-compiled code instead of the interpreter.
+ * <p>
+ * Each iteration parses an event from its wire bytes, enriches it and serializes the result, like
+ * the mapper does. The generator repeats a few templates, so the sentence entity cache is bypassed
+ * during warmup; otherwise the NLP engines would only see each sentence once. Warmup stops after
+ * {@code app.warmup.iterations} events or {@code app.warmup.duration-seconds}, whichever comes first,
+ * and logs the mean per-event latency of its first and last events.
+ */
+final class EnrichmentWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrichmentWarmup.class);
+
+    /**
+     * Number of events whose latency is averaged at the start and at the end of the warmup.
+     */
+    private static final int LATENCY_WINDOW = 50;
+
+    private final EventEnrichmentService enrichmentService;
+    private final NlpEnrichmentService nlpService;
+    private final ObjectMapper objectMapper;
+    private final int iterations;
+    private final Duration duration;
+
+    EnrichmentWarmup(EventEnrichmentService enrichmentService, NlpEnrichmentService nlpService,
+                     ObjectMapper objectMapper, int iterations, Duration duration) {
+        this.enrichmentService = enrichmentService;
+        this.nlpService = nlpService;
+        this.objectMapper = objectMapper;
+        this.iterations = iterations;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates the warmup configured by {@code app.warmup.*}.
+     *
+     * @return the warmup, or {@code null} if it is disabled
+     */
+    static EnrichmentWarmup fromEnvironment(EventEnrichmentService enrichmentService, NlpEnrichmentService nlpService,
+                                            ObjectMapper objectMapper) {
+        if (!EnvironmentSettings.getBoolean("app.warmup.enabled", false)) {
+            return null;
+        }
+        return new EnrichmentWarmup(enrichmentService, nlpService, objectMapper,
+            EnvironmentSettings.getInt("app.warmup.iterations", 2000),
+            Duration.ofSeconds(EnvironmentSettings.getLong("app.warmup.duration-seconds", 30)));
+    }
+
+    /**
+     * Runs the warmup.
+     *
+     * @return the number of events processed
+     */
+    int run() throws IOException {
+        logger.info("JIT warmup: up to {} events or {}s", iterations, duration.toSeconds());
+        TestDataGenerator generator = new TestDataGenerator();
+
+        long[] firstLatencies = new long[LATENCY_WINDOW];
+        long[] lastLatencies = new long[LATENCY_WINDOW];
+        long deadline = System.nanoTime() + duration.toNanos();
+        long start = System.nanoTime();
+        int count = 0;
+
+        EntityCache entityCache = nlpService.getEntityCache();
+        nlpService.setEntityCache(null);
+        // Synthetic events go through the same instrumentation, but into a registry nobody scrapes
+        EnrichmentMetrics nlpMetrics = nlpService.getMetrics();
+        EnrichmentMetrics enrichmentMetrics = enrichmentService.getMetrics();
+        EnrichmentMetrics warmupMetrics = new EnrichmentMetrics(new SimpleMeterRegistry());
+        nlpService.setMetrics(warmupMetrics);
+        enrichmentService.setMetrics(warmupMetrics);
+        // Cold-JIT latencies would step the tier down, and the warmup must train the full pipelines
+        DegradationController degradation = enrichmentService.getDegradation();
+        enrichmentService.setDegradation(null);
+        try {
+            while (count < iterations && System.nanoTime() < deadline) {
+                byte[] input = objectMapper.writeValueAsBytes(generator.generateSingleEvent());
+
+                long eventStart = System.nanoTime();
+                Event event = objectMapper.readValue(input, Event.class);
+                EnrichedEvent enrichedEvent = enrichmentService.enrichEvent(event);
+                objectMapper.writeValueAsBytes(enrichedEvent);
+                long latency = System.nanoTime() - eventStart;
+
+                if (count < LATENCY_WINDOW) {
+                    firstLatencies[count] = latency;
+                }
+                lastLatencies[count % LATENCY_WINDOW] = latency;
+                count++;
+            }
+        } finally {
+            nlpService.setEntityCache(entityCache);
+            nlpService.setMetrics(nlpMetrics);
+            enrichmentService.setMetrics(enrichmentMetrics);
+            enrichmentService.setDegradation(degradation);
+        }
+
+        int window = Math.min(count, LATENCY_WINDOW);
+        logger.info("JIT warmup: {} events in {}ms, mean latency {}us over the first {} events, {}us over the last {}",
+                    count, (System.nanoTime() - start) / 1_000_000,
+                    meanMicros(firstLatencies, window), window,
+                    meanMicros(lastLatencies, window), window);
+        return count;
+    }
+
+    private static long meanMicros(long[] latencies, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += latencies[i];
+        }
+        return total / count / 1_000;
+    }
+}
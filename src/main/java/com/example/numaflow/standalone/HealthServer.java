@@ -0,0 +1,154 @@
+package com.example.numaflow.standalone;
+
+import com.example.numaflow.config.EnvironmentSettings;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Serves the health probes and Prometheus metrics of the standalone UDF on the JDK HTTP server,
+ * without starting Spring. Each exchange runs on its own virtual thread.
+ * <p>
+ * The paths are those of Spring Boot Actuator, so the probes and scrape configuration of the pipeline
+ * work unchanged:
+ * <ul>
+ *   <li>{@code /actuator/health/liveness}: {@code UP} while the process runs,</li>
+ *   <li>{@code /actuator/health/readiness} and {@code /actuator/health}: {@code UP} once the UDF server
+ *       is started and the readiness check passes, {@code OUT_OF_SERVICE} with status 503 before,</li>
+ *   <li>{@code /actuator/prometheus}: the registry in the Prometheus text format.</li>
+ * </ul>
+ * The server starts before the models are loaded, so liveness is answered during a long model load.
+ */
+final class HealthServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthServer.class);
+
+    static final String HEALTH_PATH = "/actuator/health";
+    static final String LIVENESS_PATH = HEALTH_PATH + "/liveness";
+    static final String READINESS_PATH = HEALTH_PATH + "/readiness";
+    static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final byte[] UP = "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OUT_OF_SERVICE = "{\"status\":\"OUT_OF_SERVICE\"}".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Seconds to let exchanges in progress complete when the server stops.
+     */
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final PrometheusMeterRegistry meterRegistry;
+    private volatile BooleanSupplier readiness = () -> false;
+
+    /**
+     * Binds the server; it serves once {@link #start()} is called.
+     *
+     * @param port the port, or 0 for any free port
+     * @param meterRegistry the registry published on {@value #PROMETHEUS_PATH}
+     * @throws IOException if the port cannot be bound
+     */
+    HealthServer(int port, PrometheusMeterRegistry meterRegistry) throws IOException {
+        this.meterRegistry = meterRegistry;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(HEALTH_PATH, this::handleHealth);
+        server.createContext(PROMETHEUS_PATH, this::handlePrometheus);
+    }
+
+    /**
+     * Creates the server configured by {@code app.health.enabled} and {@code server.port}, the port the
+     * Spring application serves its actuator endpoints on.
+     *
+     * @return the server, or {@code null} if it is disabled
+     * @throws IOException if the port cannot be bound
+     */
+    static HealthServer fromEnvironment(PrometheusMeterRegistry meterRegistry) throws IOException {
+        if (!EnvironmentSettings.getBoolean("app.health.enabled", true)) {
+            return null;
+        }
+        return new HealthServer(EnvironmentSettings.getInt("server.port", 8080), meterRegistry);
+    }
+
+    void start() {
+        server.start();
+        logger.info("Health and metrics server listening on port {}", getPort());
+    }
+
+    /**
+     * Sets the check that decides readiness; the server is not ready until this is called.
+     */
+    void setReadiness(BooleanSupplier readiness) {
+        this.readiness = readiness;
+    }
+
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Reports not ready, then stops the server once the exchanges in progress complete.
+     */
+    @Override
+    public void close() {
+        readiness = () -> false;
+        server.stop(STOP_DELAY_SECONDS);
+        executor.close();
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (LIVENESS_PATH.equals(path)) {
+            respond(exchange, 200, JSON_CONTENT_TYPE, UP);
+        } else if (READINESS_PATH.equals(path) || HEALTH_PATH.equals(path)) {
+            boolean ready = readiness.getAsBoolean();
+            respond(exchange, ready ? 200 : 503, JSON_CONTENT_TYPE, ready ? UP : OUT_OF_SERVICE);
+        } else {
+            respond(exchange, 404, null, null);
+        }
+    }
+
+    private void handlePrometheus(HttpExchange exchange) throws IOException {
+        if (!PROMETHEUS_PATH.equals(exchange.getRequestURI().getPath())) {
+            respond(exchange, 404, null, null);
+            return;
+        }
+        respond(exchange, 200, PROMETHEUS_CONTENT_TYPE, meterRegistry.scrape().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (body == null || "HEAD".equals(method)) {
+                if (contentType != null) {
+                    exchange.getResponseHeaders().set("Content-Type", contentType);
+                }
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -1,16 +1,39 @@
 package com.example.numaflow.standalone;
 
+import com.example.numaflow.config.EnvironmentSettings;
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.NlpEngineProperties;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.metrics.EnrichmentMetrics;
 import com.example.numaflow.model.EnrichedEvent;
 import com.example.numaflow.model.Event;
+import com.example.numaflow.nlp.EntityCache;
+import com.example.numaflow.nlp.NlpModelLoader;
+import com.example.numaflow.nlp.NlpModels;
 import com.example.numaflow.service.EventEnrichmentService;
 import com.example.numaflow.service.NlpEnrichmentService;
+import com.example.numaflow.vertex.EnrichmentBatchVertex;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.numaproj.numaflow.mapper.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -26,31 +49,40 @@ public class NumaflowUDFMain {
         
         try {
             // Initialize dependencies manually (without Spring)
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerModule(new JavaTimeModule());
+            ObjectMapper objectMapper = createObjectMapper();
+            PrometheusMeterRegistry meterRegistry = createMeterRegistry();
             
-            NlpEnrichmentService nlpService = new NlpEnrichmentService();
-            EventEnrichmentService enrichmentService = new EventEnrichmentService(nlpService);
+            // Answer liveness probes while the models load; readiness follows once the UDF server is up
+            HealthServer healthServer = HealthServer.fromEnvironment(meterRegistry);
+            if (healthServer != null) {
+                healthServer.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(healthServer::close, "health-server-shutdown"));
+            }
             
-            // Create the mapper
-            EnrichmentMapper mapper = new EnrichmentMapper(enrichmentService, objectMapper);
+            NlpEnrichmentService nlpService = createNlpService(meterRegistry);
+            EventEnrichmentService enrichmentService = createEnrichmentService(nlpService);
             
-            // Start Numaflow UDF server
-            Server server = new Server(mapper);
+            // Take the first production messages on compiled code rather than a cold JIT
+            EnrichmentWarmup warmup = EnrichmentWarmup.fromEnvironment(enrichmentService, nlpService, objectMapper);
+            if (warmup != null) {
+                warmup.run();
+            }
             
-            // Add shutdown hook
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                logger.info("Shutting down Numaflow UDF server");
-                try {
-                    server.stop();
-                } catch (Exception e) {
-                    logger.error("Error during shutdown", e);
-                }
-            }));
+            // Start Numaflow UDF server, either per datum (map) or per read batch (batch)
+            String mapMode = EnvironmentSettings.get("app.udf.map-mode", "map");
+            if ("batch".equalsIgnoreCase(mapMode)) {
+                EnrichmentBatchVertex batchMapper = new EnrichmentBatchVertex(enrichmentService, objectMapper);
+                io.numaproj.numaflow.batchmapper.Server server = new io.numaproj.numaflow.batchmapper.Server(batchMapper);
+                runServer("batch map", server::start, server::stop);
+            } else {
+                EnrichmentMapper mapper = new EnrichmentMapper(enrichmentService, objectMapper);
+                Server server = new Server(mapper);
+                runServer("map", server::start, server::stop);
+            }
             
-            logger.info("Starting Numaflow UDF server...");
-            server.start();
-            logger.info("Numaflow UDF server is running");
+            if (healthServer != null) {
+                healthServer.setReadiness(nlpService::isReady);
+            }
             
         } catch (Exception e) {
             logger.error("Failed to start Numaflow UDF", e);
@@ -58,6 +90,94 @@ public class NumaflowUDFMain {
         }
     }
     
+    /**
+     * Creates the mapper for the wire format of input and output messages.
+     * 
+     * @throws IllegalArgumentException if offsets-only output is combined with leaving out the original text
+     */
+    static ObjectMapper createObjectMapper() {
+        return JsonMappers.wire(EnvironmentSettings.getBoolean("app.output.include-original-text", true),
+                                EnvironmentSettings.getBoolean("app.nlp.offsets-only", false),
+                                EnvironmentSettings.getBoolean("app.output.compact", false));
+    }
+    
+    /**
+     * Creates the registry of the UDF metrics, with the JVM metrics Spring Boot would publish.
+     */
+    static PrometheusMeterRegistry createMeterRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        new ClassLoaderMetrics().bindTo(registry);
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmGcMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        return registry;
+    }
+    
+    /**
+     * Creates the NLP service from the environment and loads the OpenNLP models.
+     * 
+     * @param meterRegistry the registry of the enrichment and entity cache metrics
+     * @throws IOException if a model cannot be loaded and the fallback is not enabled
+     */
+    static NlpEnrichmentService createNlpService(MeterRegistry meterRegistry) throws IOException {
+        NlpEnrichmentService nlpService = new NlpEnrichmentService(NlpModels.empty());
+        nlpService.setMetrics(new EnrichmentMetrics(meterRegistry));
+        nlpService.setParallelSegmentThreshold(
+            EnvironmentSettings.getInt("app.nlp.parallel-segment-threshold", 4096));
+        nlpService.setEngineProperties(NlpEngineProperties.fromEnvironment());
+        nlpService.setOffsetsOnly(EnvironmentSettings.getBoolean("app.nlp.offsets-only", false));
+        nlpService.setStreamingWindowChars(EnvironmentSettings.getInt("app.nlp.streaming.window-chars", 8192));
+        if (EnvironmentSettings.getBoolean("app.nlp.cache.enabled", true)) {
+            EntityCache entityCache = new EntityCache(
+                EnvironmentSettings.getLong("app.nlp.cache.maximum-weight", EntityCache.DEFAULT_MAXIMUM_WEIGHT));
+            CaffeineCacheMetrics.monitor(meterRegistry, entityCache.getCache(), EntityCache.METRICS_NAME);
+            nlpService.setEntityCache(entityCache);
+        }
+        
+        // Load the OpenNLP models concurrently from the mounted model directory; this fails fast
+        // when a model is missing unless NLP_FALLBACK_ENABLED=true. The server starts once all
+        // models are in, or once the sentence model is in with serve-while-loading.
+        nlpService.setServeWhileLoading(
+            EnvironmentSettings.getBoolean("app.nlp.models.serve-while-loading", false));
+        nlpService.loadModels(NlpModelLoader.fromEnvironment());
+        return nlpService;
+    }
+    
+    /**
+     * Creates the event enrichment service from the environment, recording into the metrics of the NLP service.
+     */
+    static EventEnrichmentService createEnrichmentService(NlpEnrichmentService nlpService) {
+        EventEnrichmentService enrichmentService =
+            new EventEnrichmentService(nlpService, ProcessingProperties.fromEnvironment());
+        enrichmentService.setMetrics(nlpService.getMetrics());
+        return enrichmentService;
+    }
+    
+    private static void runServer(String mode, ServerAction start, ServerAction stop) throws Exception {
+        // Add shutdown hook
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("Shutting down Numaflow UDF server");
+            try {
+                stop.run();
+            } catch (Exception e) {
+                logger.error("Error during shutdown", e);
+            }
+        }));
+        
+        logger.info("Starting Numaflow UDF server in {} mode...", mode);
+        start.run();
+        logger.info("Numaflow UDF server is running");
+    }
+    
+    /**
+     * Start or stop operation of one of the Numaflow SDK servers.
+     */
+    @FunctionalInterface
+    private interface ServerAction {
+        void run() throws Exception;
+    }
+    
     /**
      * Numaflow Mapper implementation for text enrichment.
      */
@@ -77,15 +197,35 @@ public class NumaflowUDFMain {
             try {
                 logger.debug("Processing message with keys: {}", String.join(",", keys));
                 
-                // Parse input JSON
-                String eventJson = new String(datum.getValue());
-                Event event = objectMapper.readValue(eventJson, Event.class);
+                // Parse input JSON straight from the UTF-8 bytes
+                EnrichmentMetrics metrics = enrichmentService.getMetrics();
+                byte[] payload = datum.getValue();
+                long parseStart = System.nanoTime();
+                Event event = objectMapper.readValue(payload, Event.class);
+                metrics.recordEventStage(EnrichmentMetrics.PARSE, payload.length, System.nanoTime() - parseStart);
                 
                 // Ensure event has ID
                 if (event.getId() == null || event.getId().isEmpty()) {
                     event.setId(UUID.randomUUID().toString());
                 }
                 
+                // Very large events are enriched sentence by sentence, straight into the output JSON
+                if (enrichmentService.shouldStream(event)) {
+                    Map<String, Object> metadata = new LinkedHashMap<>();
+                    metadata.put("status", "enriched");
+                    metadata.put("processor", "NumaflowUDF");
+                    metadata.put("processedAt", Instant.now().toString());
+                    
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+                        enrichmentService.writeEnrichedEvent(event, metadata, generator);
+                    }
+                    logger.debug("Event {} enriched in streaming mode", event.getId());
+                    
+                    Message message = new Message(output.toByteArray(), keys, new String[]{"enriched"});
+                    return MessageList.newBuilder().addMessage(message).build();
+                }
+                
                 // Process the event
                 EnrichedEvent enrichedEvent;
                 String[] tags;
@@ -113,11 +253,14 @@ public class NumaflowUDFMain {
                         enrichedEvent.getAllNamedEntities().size());
                 }
                 
-                // Serialize result
-                String resultJson = objectMapper.writeValueAsString(enrichedEvent);
+                // Serialize result directly to UTF-8 bytes
+                long serializeStart = System.nanoTime();
+                byte[] resultJson = objectMapper.writeValueAsBytes(enrichedEvent);
+                metrics.recordEventStage(EnrichmentMetrics.SERIALIZATION, resultJson.length,
+                                         System.nanoTime() - serializeStart);
                 
                 // Create output message
-                Message message = new Message(resultJson.getBytes(), tags);
+                Message message = new Message(resultJson, keys, tags);
                 
                 return MessageList.newBuilder().addMessage(message).build();
                 
@@ -133,8 +276,8 @@ public class NumaflowUDFMain {
                         Instant.now()
                     );
                     
-                    String errorJson = objectMapper.writeValueAsString(error);
-                    Message errorMessage = new Message(errorJson.getBytes(), new String[]{"error"});
+                    byte[] errorJson = objectMapper.writeValueAsBytes(error);
+                    Message errorMessage = new Message(errorJson, keys, new String[]{"error"});
                     
                     return MessageList.newBuilder().addMessage(errorMessage).build();
                     
@@ -143,7 +286,8 @@ public class NumaflowUDFMain {
                     
                     // Fallback error message
                     String fallback = "{\"error\":\"Processing failed\",\"timestamp\":\"" + Instant.now() + "\"}";
-                    Message fallbackMessage = new Message(fallback.getBytes(), new String[]{"error"});
+                    Message fallbackMessage = new Message(fallback.getBytes(StandardCharsets.UTF_8), keys,
+                        new String[]{"error"});
                     
                     return MessageList.newBuilder().addMessage(fallbackMessage).build();
                 }
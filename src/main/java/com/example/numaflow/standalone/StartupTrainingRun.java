@@ -0,0 +1,155 @@
+package com.example.numaflow.standalone;
+
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.example.numaflow.vertex.EnrichmentBatchVertex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays sample events through the standalone UDF's enrichment path without starting the gRPC server,
+ * and reports how long the JVM took to become ready and to reach peak throughput.
+ * <p>
+ * The Docker {@code cds} stage runs it with {@code -XX:ArchiveClassesAtExit} to record the classes the
+ * UDF loads into an AppCDS archive; {@code scripts/measure-startup.sh} runs it with and without that
+ * archive to compare startup. Each round sends every event through both the map and the batch map
+ * path, so the archive covers whichever {@code app.udf.map-mode} the pipeline uses.
+ * <p>
+ * Usage: {@code StartupTrainingRun <events.jsonl> [rounds]}
+ */
+public final class StartupTrainingRun {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+    private static final int DEFAULT_ROUNDS = 30;
+
+    /**
+     * A round counts as peak throughput once it reaches this share of the best round.
+     */
+    private static final double PEAK_RATIO = 0.9;
+
+    private StartupTrainingRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: StartupTrainingRun <events.jsonl> [rounds]");
+            System.exit(2);
+        }
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        List<byte[]> events = readEvents(Path.of(args[0]));
+
+        long jvmStartMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+        ObjectMapper objectMapper = NumaflowUDFMain.createObjectMapper();
+        NlpEnrichmentService nlpService = NumaflowUDFMain.createNlpService(NumaflowUDFMain.createMeterRegistry());
+        EventEnrichmentService enrichmentService = NumaflowUDFMain.createEnrichmentService(nlpService);
+        NumaflowUDFMain.EnrichmentMapper mapper = new NumaflowUDFMain.EnrichmentMapper(enrichmentService, objectMapper);
+        EnrichmentBatchVertex batchMapper = new EnrichmentBatchVertex(enrichmentService, objectMapper);
+        long readyMs = System.currentTimeMillis() - jvmStartMs;
+
+        long processingStart = System.nanoTime();
+        long firstEventNanos = -1;
+        double[] throughput = new double[rounds];
+        long[] roundEndNanos = new long[rounds];
+
+        for (int round = 0; round < rounds; round++) {
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < events.size(); i++) {
+                mapper.processMessage(new String[]{"training"}, new SampleDatum("event-" + i, events.get(i)));
+                if (firstEventNanos < 0) {
+                    firstEventNanos = System.nanoTime() - processingStart;
+                }
+            }
+            batchMapper.processMessage(batch(events));
+
+            long roundEnd = System.nanoTime();
+            roundEndNanos[round] = roundEnd - processingStart;
+            throughput[round] = 2.0 * events.size() / ((roundEnd - roundStart) / 1e9);
+            logger.info("Round {}: {} events/s", round + 1, Math.round(throughput[round]));
+        }
+
+        double best = 0;
+        for (double value : throughput) {
+            best = Math.max(best, value);
+        }
+        long timeToPeakMs = 0;
+        for (int round = 0; round < rounds; round++) {
+            if (throughput[round] >= PEAK_RATIO * best) {
+                timeToPeakMs = readyMs + roundEndNanos[round] / 1_000_000;
+                break;
+            }
+        }
+
+        logger.info("Startup report: ready={}ms firstEvent={}ms timeToPeak={}ms peak={} events/s ({} events x {} rounds)",
+                    readyMs, readyMs + firstEventNanos / 1_000_000, timeToPeakMs, Math.round(best),
+                    events.size(), rounds);
+    }
+
+    private static List<byte[]> readEvents(Path path) throws Exception {
+        List<byte[]> events = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                events.add(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("No events in " + path);
+        }
+        return events;
+    }
+
+    private static io.numaproj.numaflow.batchmapper.DatumIterator batch(List<byte[]> events) {
+        Iterator<SampleDatum> datums = events.stream()
+            .map(value -> new SampleDatum("batch-" + System.identityHashCode(value), value))
+            .iterator();
+        return () -> datums.hasNext() ? datums.next() : null;
+    }
+
+    /**
+     * Datum of a sample event, usable with both the map and the batch map API.
+     */
+    private record SampleDatum(String id, byte[] value)
+            implements io.numaproj.numaflow.mapper.Datum, io.numaproj.numaflow.batchmapper.Datum {
+
+        @Override
+        public String[] getKeys() {
+            return new String[]{"training"};
+        }
+
+        @Override
+        public byte[] getValue() {
+            return value;
+        }
+
+        @Override
+        public Instant getEventTime() {
+            return Instant.now();
+        }
+
+        @Override
+        public Instant getWatermark() {
+            return Instant.now();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.numaflow.vertex;
+
+import com.example.numaflow.metrics.EnrichmentMetrics;
+import com.example.numaflow.model.BatchEnrichmentResult;
+import com.example.numaflow.model.EnrichedEvent;
+import com.example.numaflow.model.Event;
+import com.example.numaflow.model.EventEnrichmentResult;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.numaproj.numaflow.batchmapper.BatchMapper;
+import io.numaproj.numaflow.batchmapper.BatchResponse;
+import io.numaproj.numaflow.batchmapper.BatchResponses;
+import io.numaproj.numaflow.batchmapper.Datum;
+import io.numaproj.numaflow.batchmapper.DatumIterator;
+import io.numaproj.numaflow.batchmapper.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Numaflow BatchMapper implementation for text enrichment processing.
+ * Receives the whole read batch of a vertex, enriches it in parallel through
+ * {@link EventEnrichmentService#enrichBatch(List)} and returns one response per datum, keyed by datum id.
+ * Very large events (see {@link EventEnrichmentService#shouldStream(Event)}) are left out of the batch and
+ * enriched one at a time in streaming mode, straight into their output JSON.
+ */
+@Component
+public class EnrichmentBatchVertex extends BatchMapper {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrichmentBatchVertex.class);
+
+    private final EventEnrichmentService enrichmentService;
+    private final ObjectMapper objectMapper;
+
+    public EnrichmentBatchVertex(EventEnrichmentService enrichmentService,
+                                 @Qualifier("wireObjectMapper") ObjectMapper objectMapper) {
+        this.enrichmentService = enrichmentService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Numaflow BatchMapper interface implementation.
+     * This is the entry point called by Numaflow with every batch of messages read by the vertex.
+     */
+    @Override
+    public BatchResponses processMessage(DatumIterator datumStream) {
+        List<BatchItem> items = readBatch(datumStream);
+        logger.debug("Processing Numaflow batch of {} datums", items.size());
+
+        // Only events that parsed and have text go through the enrichment engine, very large ones alone
+        List<Event> eventsToEnrich = new ArrayList<>();
+        for (BatchItem item : items) {
+            if (item.enrichable() && !item.streamed()) {
+                eventsToEnrich.add(item.event());
+            }
+        }
+
+        BatchEnrichmentResult batchResult = enrichmentService.enrichBatch(eventsToEnrich);
+        List<EventEnrichmentResult> results = batchResult.getResults();
+
+        BatchResponses responses = new BatchResponses();
+        int resultIndex = 0;
+        for (BatchItem item : items) {
+            BatchResponse response = new BatchResponse(item.datum().getId());
+
+            if (item.event() == null) {
+                response.append(errorMessage(item.datum(), "ENRICHMENT_ERROR", item.error()));
+            } else if (!item.enrichable()) {
+                response.append(outputMessage(item.datum(), skippedEvent(item.event()), "skipped"));
+            } else if (item.streamed()) {
+                response.append(streamedMessage(item.datum(), item.event()));
+            } else {
+                EventEnrichmentResult result = results.get(resultIndex++);
+                if (result.isSuccess()) {
+                    EnrichedEvent enrichedEvent = result.getEnrichedEvent();
+                    enrichedEvent.addEnrichmentMetadata("status", "enriched");
+                    enrichedEvent.addEnrichmentMetadata("processor", "EnrichmentBatchVertex");
+                    enrichedEvent.addEnrichmentMetadata("processedAt", Instant.now().toString());
+                    response.append(outputMessage(item.datum(), enrichedEvent, "enriched"));
+                } else {
+                    response.append(errorMessage(item.datum(), "ENRICHMENT_" + result.getStatus(),
+                        result.getErrorMessage()));
+                }
+            }
+
+            responses.append(response);
+        }
+
+        logger.debug("Processed Numaflow batch: {}", batchResult);
+        return responses;
+    }
+
+    /**
+     * Reads all datums of the batch and parses their payloads.
+     */
+    private List<BatchItem> readBatch(DatumIterator datumStream) {
+        List<BatchItem> items = new ArrayList<>();
+        while (true) {
+            Datum datum;
+            try {
+                datum = datumStream.next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading Numaflow batch", e);
+            }
+            if (datum == null) {
+                break;
+            }
+
+            try {
+                byte[] payload = datum.getValue();
+                long parseStart = System.nanoTime();
+                Event event = objectMapper.readValue(payload, Event.class);
+                enrichmentService.getMetrics().recordEventStage(EnrichmentMetrics.PARSE, payload.length,
+                                                                System.nanoTime() - parseStart);
+                if (event.getId() == null || event.getId().isEmpty()) {
+                    event.setId(UUID.randomUUID().toString());
+                }
+                items.add(new BatchItem(datum, event, enrichmentService.canEnrichEvent(event),
+                                        enrichmentService.shouldStream(event), null));
+            } catch (Exception e) {
+                logger.error("Failed to parse datum {} in Numaflow batch", datum.getId(), e);
+                items.add(new BatchItem(datum, null, false, false, e.getMessage()));
+            }
+        }
+        return items;
+    }
+
+    private EnrichedEvent skippedEvent(Event event) {
+        logger.warn("Event with ID {} cannot be enriched (no text fields)", event.getId());
+
+        EnrichedEvent enrichedEvent = new EnrichedEvent(event);
+        enrichedEvent.addEnrichmentMetadata("status", "skipped");
+        enrichedEvent.addEnrichmentMetadata("reason", "no_text_fields");
+        enrichedEvent.addEnrichmentMetadata("processedAt", Instant.now().toString());
+        return enrichedEvent;
+    }
+
+    private Message outputMessage(Datum datum, EnrichedEvent enrichedEvent, String tag) {
+        try {
+            long serializeStart = System.nanoTime();
+            byte[] enrichedJson = objectMapper.writeValueAsBytes(enrichedEvent);
+            enrichmentService.getMetrics().recordEventStage(EnrichmentMetrics.SERIALIZATION, enrichedJson.length,
+                                                            System.nanoTime() - serializeStart);
+            return new Message(enrichedJson, datum.getKeys(), new String[]{tag});
+        } catch (Exception e) {
+            logger.error("Failed to serialize enriched event for datum {}", datum.getId(), e);
+            return errorMessage(datum, "SERIALIZATION_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Enriches an event in streaming mode into its output message; no {@link EnrichedEvent} is built.
+     */
+    private Message streamedMessage(Datum datum, Event event) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("status", "enriched");
+        metadata.put("processor", "EnrichmentBatchVertex");
+        metadata.put("processedAt", Instant.now().toString());
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+                enrichmentService.writeEnrichedEvent(event, metadata, generator);
+            }
+            logger.debug("Enriched event ID: {} of datum {} in streaming mode", event.getId(), datum.getId());
+            return new Message(output.toByteArray(), datum.getKeys(), new String[]{"enriched"});
+        } catch (Exception e) {
+            logger.error("Failed to enrich datum {} in streaming mode", datum.getId(), e);
+            return errorMessage(datum, "ENRICHMENT_ERROR", e.getMessage());
+        }
+    }
+
+    private Message errorMessage(Datum datum, String errorType, String message) {
+        try {
+            EnrichmentVertex.ErrorResponse errorResponse = new EnrichmentVertex.ErrorResponse(
+                UUID.randomUUID().toString(),
+                errorType,
+                message,
+                Instant.now()
+            );
+            return new Message(objectMapper.writeValueAsBytes(errorResponse), datum.getKeys(), new String[]{"error"});
+        } catch (Exception jsonError) {
+            logger.error("Failed to serialize error response", jsonError);
+
+            // Fallback: return simple error message
+            String fallbackError = "{\"error\":\"Failed to process message\"}";
+            return new Message(fallbackError.getBytes(StandardCharsets.UTF_8), datum.getKeys(), new String[]{"error"});
+        }
+    }
+
+    /**
+     * A datum of the batch with its parsed event, or the parse error. Streamed events are enriched on
+     * their own rather than in the batch.
+     */
+    private record BatchItem(Datum datum, Event event, boolean enrichable, boolean streamed, String error) {
+    }
+}
@@ -1,15 +1,25 @@
 package com.example.numaflow.vertex;
 
+import com.example.numaflow.metrics.EnrichmentMetrics;
 import com.example.numaflow.model.EnrichedEvent;
 import com.example.numaflow.model.Event;
+import com.example.numaflow.service.EnrichmentTimeoutException;
 import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.numaproj.numaflow.mapper.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -25,7 +35,7 @@ public class EnrichmentVertex extends Mapper {
     private final ObjectMapper objectMapper;
     
     public EnrichmentVertex(EventEnrichmentService enrichmentService, 
-                           ObjectMapper objectMapper) {
+                           @Qualifier("wireObjectMapper") ObjectMapper objectMapper) {
         this.enrichmentService = enrichmentService;
         this.objectMapper = objectMapper;
     }
@@ -40,26 +50,39 @@ public class EnrichmentVertex extends Mapper {
             logger.debug("Processing Numaflow datum with keys: {} at time: {}", 
                 String.join(",", keys), datum.getEventTime());
             
-            // Parse the incoming message payload as an Event
-            String eventJson = new String(datum.getValue());
-            Event event = objectMapper.readValue(eventJson, Event.class);
+            // Parse the incoming message payload as an Event, straight from the UTF-8 bytes
+            EnrichmentMetrics metrics = enrichmentService.getMetrics();
+            byte[] payload = datum.getValue();
+            long parseStart = System.nanoTime();
+            Event event = objectMapper.readValue(payload, Event.class);
+            metrics.recordEventStage(EnrichmentMetrics.PARSE, payload.length, System.nanoTime() - parseStart);
             
             // Set ID if not present
             if (event.getId() == null || event.getId().isEmpty()) {
                 event.setId(UUID.randomUUID().toString());
             }
             
+            // Very large events are enriched sentence by sentence, straight into the output JSON
+            if (enrichmentService.shouldStream(event)) {
+                Message outputMessage = new Message(processEventStreaming(event), keys, new String[]{"enriched"});
+                logger.debug("Successfully processed event ID: {} in streaming mode", event.getId());
+                return MessageList.newBuilder().addMessage(outputMessage).build();
+            }
+            
             // Process the event through our enrichment service
             EnrichedEvent enrichedEvent = processEventInternal(event);
             
-            // Serialize the enriched event
-            String enrichedJson = objectMapper.writeValueAsString(enrichedEvent);
+            // Serialize the enriched event directly to UTF-8 bytes
+            long serializeStart = System.nanoTime();
+            byte[] enrichedJson = objectMapper.writeValueAsBytes(enrichedEvent);
+            metrics.recordEventStage(EnrichmentMetrics.SERIALIZATION, enrichedJson.length,
+                                     System.nanoTime() - serializeStart);
             
             // Determine output tags based on processing result
             String[] outputTags = determineOutputTags(enrichedEvent);
             
             // Create output message with tags for routing
-            Message outputMessage = new Message(enrichedJson.getBytes(), outputTags);
+            Message outputMessage = new Message(enrichedJson, keys, outputTags);
             
             logger.debug("Successfully processed event ID: {}, output tags: {}", 
                 event.getId(), String.join(",", outputTags));
@@ -78,8 +101,8 @@ public class EnrichmentVertex extends Mapper {
                     Instant.now()
                 );
                 
-                String errorJson = objectMapper.writeValueAsString(errorResponse);
-                Message errorMessage = new Message(errorJson.getBytes(), new String[]{"error"});
+                byte[] errorJson = objectMapper.writeValueAsBytes(errorResponse);
+                Message errorMessage = new Message(errorJson, keys, new String[]{"error"});
                 
                 return MessageList.newBuilder().addMessage(errorMessage).build();
                 
@@ -88,7 +111,8 @@ public class EnrichmentVertex extends Mapper {
                 
                 // Fallback: return simple error message
                 String fallbackError = "{\"error\":\"Failed to process message\"}";
-                Message fallbackMessage = new Message(fallbackError.getBytes(), new String[]{"error"});
+                Message fallbackMessage = new Message(fallbackError.getBytes(StandardCharsets.UTF_8), keys,
+                    new String[]{"error"});
                 
                 return MessageList.newBuilder().addMessage(fallbackMessage).build();
             }
@@ -100,10 +124,24 @@ public class EnrichmentVertex extends Mapper {
      * This method can be used for direct testing.
      */
     public String processEvent(String eventJson) throws Exception {
+        return processEvent(eventJson, NlpEnrichmentService.NO_DEADLINE);
+    }
+    
+    /**
+     * Process JSON event payload and return enriched result as JSON, giving up once a deadline has passed.
+     * 
+     * @param deadlineNanos the {@link System#nanoTime()} by which enrichment must be done, or
+     *                      {@link NlpEnrichmentService#NO_DEADLINE}
+     * @throws EnrichmentTimeoutException if the deadline passes before the event is enriched
+     */
+    public String processEvent(String eventJson, long deadlineNanos) throws Exception {
         logger.debug("Processing event JSON: {}", eventJson);
         
         // Parse the incoming message as an Event
+        EnrichmentMetrics metrics = enrichmentService.getMetrics();
+        long parseStart = System.nanoTime();
         Event event = objectMapper.readValue(eventJson, Event.class);
+        metrics.recordEventStage(EnrichmentMetrics.PARSE, eventJson.length(), System.nanoTime() - parseStart);
         
         // Set ID if not present
         if (event.getId() == null || event.getId().isEmpty()) {
@@ -111,10 +149,13 @@ public class EnrichmentVertex extends Mapper {
         }
         
         // Process the event
-        EnrichedEvent enrichedEvent = processEventInternal(event);
+        EnrichedEvent enrichedEvent = processEventInternal(event, deadlineNanos);
         
         // Serialize the enriched event
+        long serializeStart = System.nanoTime();
         String enrichedJson = objectMapper.writeValueAsString(enrichedEvent);
+        metrics.recordEventStage(EnrichmentMetrics.SERIALIZATION, enrichedJson.length(),
+                                 System.nanoTime() - serializeStart);
         
         logger.debug("Successfully processed event with ID: {}", event.getId());
         
@@ -134,10 +175,32 @@ public class EnrichmentVertex extends Mapper {
         }
     }
     
+    /**
+     * Enriches an event in streaming mode and returns its enriched JSON, with the metadata
+     * {@link #processEventInternal(Event)} adds. No {@link EnrichedEvent} is built: segments are
+     * serialized as their sentences are enriched, so serialization is not timed on its own.
+     */
+    byte[] processEventStreaming(Event event) throws IOException {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("status", "enriched");
+        metadata.put("processor", "EnrichmentVertex");
+        metadata.put("processedAt", Instant.now().toString());
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+            enrichmentService.writeEnrichedEvent(event, metadata, generator);
+        }
+        return output.toByteArray();
+    }
+    
     /**
      * Internal method to process an event (can be called directly for testing).
      */
     public EnrichedEvent processEventInternal(Event event) {
+        return processEventInternal(event, NlpEnrichmentService.NO_DEADLINE);
+    }
+    
+    private EnrichedEvent processEventInternal(Event event, long deadlineNanos) {
         // Validate that the event can be enriched
         if (!enrichmentService.canEnrichEvent(event)) {
             logger.warn("Event with ID {} cannot be enriched (no text fields)", event.getId());
@@ -152,7 +215,7 @@ public class EnrichmentVertex extends Mapper {
         }
         
         // Enrich the event
-        EnrichedEvent enrichedEvent = enrichmentService.enrichEvent(event);
+        EnrichedEvent enrichedEvent = enrichmentService.enrichEvent(event, deadlineNanos);
         enrichedEvent.addEnrichmentMetadata("status", "enriched");
         enrichedEvent.addEnrichmentMetadata("processor", "EnrichmentVertex");
         enrichedEvent.addEnrichmentMetadata("processedAt", Instant.now().toString());
@@ -169,7 +232,7 @@ public class EnrichmentVertex extends Mapper {
     /**
      * Simple error response class for failed processing
      */
-    private static class ErrorResponse {
+    static class ErrorResponse {
         public final String id;
         public final String errorType;
         public final String errorMessage;
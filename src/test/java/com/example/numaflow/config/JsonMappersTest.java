@@ -0,0 +1,89 @@
+package com.example.numaflow.config;
+
+import com.example.numaflow.model.EnrichedEvent;
+import com.example.numaflow.model.Event;
+import com.example.numaflow.model.TextSegment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for JsonMappers.
+ */
+class JsonMappersTest {
+    
+    @Test
+    void wire_shouldWriteCompactOutput() throws Exception {
+        // Given
+        EnrichedEvent enrichedEvent = createEnrichedEvent();
+        
+        // When
+        String json = JsonMappers.wire(true).writeValueAsString(enrichedEvent);
+        
+        // Then
+        assertThat(json).doesNotContain("\n");
+        assertThat(json).doesNotContain("allTextSegments");
+        assertThat(json).contains("\"title\":\"Apple opens office\"");
+        assertThat(json.length()).isLessThan(JsonMappers.pretty().writeValueAsString(enrichedEvent).length());
+    }
+    
+    @Test
+    void wire_withoutOriginalText_shouldOmitEventTextButStillReadIt() throws Exception {
+        // Given
+        EnrichedEvent enrichedEvent = createEnrichedEvent();
+        ObjectMapper mapper = JsonMappers.wire(false);
+        
+        // When
+        String json = mapper.writeValueAsString(enrichedEvent);
+        Event parsed = mapper.readValue("{\"id\":\"e-2\",\"title\":\"Some title\"}", Event.class);
+        
+        // Then
+        assertThat(json).contains("\"id\":\"e-1\"");
+        assertThat(json).doesNotContain("\"title\":\"Apple opens office\"");
+        assertThat(json).contains("Apple opens office"); // still present in the segment text
+        assertThat(parsed.getTitle()).isEqualTo("Some title");
+    }
+    
+    @Test
+    void wire_notCompact_shouldKeepDerivedListsAndNullValues() throws Exception {
+        // Given
+        EnrichedEvent enrichedEvent = createEnrichedEvent();
+        
+        // When
+        String json = JsonMappers.wire(true, false, false).writeValueAsString(enrichedEvent);
+        
+        // Then
+        assertThat(json).doesNotContain("\n");
+        assertThat(json).contains("\"allTextSegments\":[{\"text\":\"Apple opens office\"");
+        assertThat(json).contains("\"allNamedEntities\":[]");
+        assertThat(json).contains("\"content\":null");
+    }
+    
+    @Test
+    void wire_withOffsetsOnlyAndOriginalText_shouldKeepEventText() throws Exception {
+        // When
+        String json = JsonMappers.wire(true, true, true).writeValueAsString(createEnrichedEvent());
+        
+        // Then
+        assertThat(json).contains("\"title\":\"Apple opens office\"");
+    }
+    
+    @Test
+    void wire_withOffsetsOnlyWithoutOriginalText_shouldBeRejected() {
+        assertThatThrownBy(() -> JsonMappers.wire(false, true, true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("app.output.include-original-text");
+    }
+    
+    private EnrichedEvent createEnrichedEvent() {
+        Event event = new Event("Apple opens office", "A new office in Berlin.");
+        event.setId("e-1");
+        EnrichedEvent enrichedEvent = new EnrichedEvent(event);
+        enrichedEvent.addEnrichedField("title", List.of(new TextSegment("Apple opens office", 0, 18, 1)));
+        return enrichedEvent;
+    }
+}
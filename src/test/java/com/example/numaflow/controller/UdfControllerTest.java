@@ -0,0 +1,190 @@
+package com.example.numaflow.controller;
+
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.config.UdfHttpProperties;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.example.numaflow.vertex.EnrichmentVertex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UdfController.
+ */
+@ExtendWith(MockitoExtension.class)
+class UdfControllerTest {
+
+    @Mock
+    private EnrichmentVertex enrichmentVertex;
+
+    private final ObjectMapper objectMapper = JsonMappers.wire(true);
+    private final UdfHttpProperties properties = new UdfHttpProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor executor;
+    private UdfController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxConcurrency(1);
+        properties.setQueueCapacity(0);
+        properties.setDeadlineMs(5000);
+        properties.setRetryAfterSeconds(2);
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        controller = new UdfController(enrichmentVertex, executor, properties, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void enrichEvent_shouldReturnEnrichedJson() throws Exception {
+        // Given
+        when(enrichmentVertex.processEvent(eq("{\"id\":\"1\"}"), anyLong())).thenReturn("{\"id\":\"1\",\"enriched\":true}");
+
+        // When
+        ResponseEntity<String> response = controller.enrichEvent("{\"id\":\"1\"}");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("{\"id\":\"1\",\"enriched\":true}");
+    }
+
+    @Test
+    void enrichEvent_whenExecutorIsSaturated_shouldReturn429WithRetryAfter() throws Exception {
+        // Given
+        executor.execute(this::awaitRelease);
+
+        // When
+        ResponseEntity<String> response = controller.enrichEvent("{\"id\":\"1\"}");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(objectMapper.readTree(response.getBody()).get("error").asText()).isEqualTo("OVERLOADED");
+    }
+
+    @Test
+    void enrichEvent_pastDeadline_shouldReturn504() throws Exception {
+        // Given
+        properties.setDeadlineMs(50);
+        when(enrichmentVertex.processEvent(anyString(), anyLong())).thenAnswer(invocation -> {
+            awaitRelease();
+            return "{}";
+        });
+
+        // When
+        ResponseEntity<String> response = controller.enrichEvent("{\"id\":\"1\"}");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(objectMapper.readTree(response.getBody()).get("error").asText()).isEqualTo("DEADLINE_EXCEEDED");
+    }
+
+    @Test
+    void enrichEvent_pastDeadline_shouldStopEnrichmentAndFreeItsExecutorThread() throws Exception {
+        // Given
+        properties.setDeadlineMs(100);
+        NlpEnrichmentService nlpService = mock(NlpEnrichmentService.class);
+        ProcessingProperties processingProperties = new ProcessingProperties();
+        processingProperties.setParallelism(1);
+        EnrichmentVertex vertex = new EnrichmentVertex(
+            new EventEnrichmentService(nlpService, processingProperties), objectMapper);
+        UdfController deadlineController = new UdfController(vertex, executor, properties, objectMapper);
+        // Neither field reacts to the interrupt of the cancelled request, like the NLP engines: the title
+        // runs past the deadline and the description would hold the thread until the test ends
+        when(nlpService.enrichField(eq("title"), anyString(), any(), anyLong())).thenAnswer(invocation -> {
+            long deadlineNanos = invocation.getArgument(3);
+            while (System.nanoTime() - deadlineNanos <= 0) {
+                Thread.onSpinWait();
+            }
+            return List.of();
+        });
+        lenient().when(nlpService.enrichField(eq("description"), anyString(), any(), anyLong()))
+            .thenAnswer(invocation -> {
+                awaitReleaseUninterruptibly();
+                return List.of();
+            });
+        String eventJson = "{\"id\":\"1\",\"title\":\"Slow title\",\"description\":\"Held description\"}";
+
+        // When
+        ResponseEntity<String> response = deadlineController.enrichEvent(eventJson);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        long freeBy = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() > 0 && System.nanoTime() - freeBy < 0) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getActiveCount()).isZero();
+        verify(nlpService, never()).enrichField(eq("description"), anyString(), any(), anyLong());
+    }
+
+    @Test
+    void enrichEvent_whenEnrichmentFails_shouldReturn500WithEscapedMessage() throws Exception {
+        // Given
+        when(enrichmentVertex.processEvent(anyString(), anyLong()))
+            .thenThrow(new IllegalArgumentException("Unexpected character '\"' at line 1"));
+
+        // When
+        ResponseEntity<String> response = controller.enrichEvent("{\"id\":");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertThat(body.get("error").asText()).isEqualTo("ENRICHMENT_ERROR");
+        assertThat(body.get("message").asText()).isEqualTo("Unexpected character '\"' at line 1");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitReleaseUninterruptibly() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                release.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
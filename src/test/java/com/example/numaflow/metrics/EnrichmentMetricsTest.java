@@ -0,0 +1,111 @@
+package com.example.numaflow.metrics;
+
+import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.nlp.NlpModels;
+import com.example.numaflow.nlp.StageTimer;
+import com.example.numaflow.service.NlpEnrichmentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EnrichmentMetrics.
+ */
+class EnrichmentMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private NlpEnrichmentService nlpService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        nlpService = new NlpEnrichmentService(NlpModels.empty());
+        nlpService.setMetrics(new EnrichmentMetrics(registry));
+    }
+
+    @Test
+    void enrichField_shouldTimeEachStageTaggedWithFieldAndLength() {
+        // Given
+        String text = "Tim Cook visited Paris. He met Emmanuel Macron.";
+
+        // When
+        nlpService.enrichField("title", text);
+
+        // Then
+        Timer sentenceDetection = registry.find(EnrichmentMetrics.STAGE_DURATION)
+            .tags("stage", StageTimer.SENTENCE_DETECTION, "field", "title", "length", "0-256")
+            .timer();
+        assertThat(sentenceDetection).isNotNull();
+        assertThat(sentenceDetection.count()).isEqualTo(1);
+
+        Timer entityRecognition = registry.find(EnrichmentMetrics.STAGE_DURATION)
+            .tags("stage", StageTimer.ENTITY_RECOGNITION, "field", "title")
+            .timer();
+        assertThat(entityRecognition).isNotNull();
+        assertThat(entityRecognition.count()).isEqualTo(2);
+    }
+
+    @Test
+    void enrichField_shouldCountSegmentsAndEntities() {
+        // Given
+        String text = "Tim Cook visited Paris. He met Emmanuel Macron.";
+
+        // When
+        List<TextSegment> segments = nlpService.enrichField("content", text);
+
+        // Then
+        long entityCount = segments.stream().mapToLong(segment -> segment.getNamedEntities().size()).sum();
+        assertThat(registry.find(EnrichmentMetrics.SEGMENTS).tag("field", "content").counter().count())
+            .isEqualTo(segments.size());
+        double countedEntities = registry.find(EnrichmentMetrics.ENTITIES).tag("field", "content").counters()
+            .stream()
+            .mapToDouble(Counter::count)
+            .sum();
+        assertThat(entityCount).isPositive();
+        assertThat(countedEntities).isEqualTo((double) entityCount);
+    }
+
+    @Test
+    void recordEventStage_shouldTagEventFieldAndByteLength() {
+        // Given
+        EnrichmentMetrics metrics = new EnrichmentMetrics(registry);
+
+        // When
+        metrics.recordEventStage(EnrichmentMetrics.PARSE, 5000, 1_000_000);
+
+        // Then
+        Timer parse = registry.find(EnrichmentMetrics.STAGE_DURATION)
+            .tags("stage", EnrichmentMetrics.PARSE, "field", EnrichmentMetrics.EVENT_FIELD, "length", "4k-16k")
+            .timer();
+        assertThat(parse).isNotNull();
+        assertThat(parse.count()).isEqualTo(1);
+    }
+
+    @Test
+    void lengthBucket_shouldUseUpperBoundsExclusive() {
+        assertThat(EnrichmentMetrics.lengthBucket(0)).isEqualTo("0-256");
+        assertThat(EnrichmentMetrics.lengthBucket(255)).isEqualTo("0-256");
+        assertThat(EnrichmentMetrics.lengthBucket(256)).isEqualTo("256-1k");
+        assertThat(EnrichmentMetrics.lengthBucket(65536)).isEqualTo("64k+");
+    }
+
+    @Test
+    void disabled_shouldNotRecord() {
+        // Given
+        EnrichmentMetrics metrics = EnrichmentMetrics.disabled();
+
+        // When
+        StageTimer timer = metrics.forField("title", 10);
+        metrics.recordEventStage(EnrichmentMetrics.PARSE, 10, 1000);
+
+        // Then
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(timer).isSameAs(StageTimer.NONE);
+    }
+}
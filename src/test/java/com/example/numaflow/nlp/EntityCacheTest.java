@@ -0,0 +1,89 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EntityCache.
+ */
+class EntityCacheTest {
+
+    private static final String STAGE = "opennlp";
+    private static final String SENTENCE = "Tim Cook visited Paris.";
+
+    private final EntityCache cache = new EntityCache(EntityCache.DEFAULT_MAXIMUM_WEIGHT);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void get_withRepeatedSentence_shouldExtractOnceAndRebaseOffsets() {
+        // Given
+        AtomicInteger extractions = new AtomicInteger();
+
+        // When
+        List<NamedEntity> first = cache.get(STAGE, SENTENCE, 0, sentence -> {
+            extractions.incrementAndGet();
+            return List.of(new NamedEntity("Paris", "LOCATION", 17, 22));
+        });
+        List<NamedEntity> second = cache.get(STAGE, SENTENCE, 100, sentence -> {
+            extractions.incrementAndGet();
+            return List.of();
+        });
+
+        // Then
+        assertThat(extractions.get()).isEqualTo(1);
+        assertThat(first).extracting(NamedEntity::getStartIndex).containsExactly(17);
+        assertThat(second).extracting(NamedEntity::getStartIndex).containsExactly(117);
+        assertThat(second).extracting(NamedEntity::getText).containsExactly("Paris");
+    }
+
+    @Test
+    void invalidateAll_whileExtractionInFlight_shouldNotServeItsEntitiesAfterwards() throws Exception {
+        // Given
+        CountDownLatch extracting = new CountDownLatch(1);
+        CountDownLatch modelsInstalled = new CountDownLatch(1);
+        // An extraction on the models being replaced, e.g. the rule-based fallback while models load
+        Future<List<NamedEntity>> inFlight = executor.submit(() -> cache.get(STAGE, SENTENCE, 0, sentence -> {
+            extracting.countDown();
+            awaitQuietly(modelsInstalled);
+            return List.of(new NamedEntity("Tim Cook visited", "ORGANIZATION", 0, 16));
+        }));
+        assertThat(extracting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        // What NlpEnrichmentService.installModels does once the new engine pool is in place
+        cache.invalidateAll();
+        modelsInstalled.countDown();
+        List<NamedEntity> stale = inFlight.get(5, TimeUnit.SECONDS);
+        List<NamedEntity> afterInstall = cache.get(STAGE, SENTENCE, 0,
+            sentence -> List.of(new NamedEntity("Tim Cook", "PERSON", 0, 8)));
+
+        // Then
+        assertThat(stale).extracting(NamedEntity::getType).containsExactly("ORGANIZATION");
+        assertThat(afterInstall).extracting(NamedEntity::getType).containsExactly("PERSON");
+        assertThat(afterInstall).extracting(NamedEntity::getText).containsExactly("Tim Cook");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
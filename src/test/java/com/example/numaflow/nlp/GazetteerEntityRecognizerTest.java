@@ -0,0 +1,125 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for GazetteerEntityRecognizer and its Gazetteer automaton.
+ */
+class GazetteerEntityRecognizerTest {
+
+    private static final List<String> DICTIONARY = List.of(
+        "# type<TAB>name",
+        "LOCATION\tNew York",
+        "LOCATION\tNew York City",
+        "ORGANIZATION\tMicrosoft",
+        "PERSON\tTim Cook",
+        "ORGANIZATION\the"
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recognize_withOverlappingNames_shouldReturnLeftmostLongestWholeWords() throws IOException {
+        // Given
+        GazetteerEntityRecognizer recognizer = recognizer(GazetteerEntityRecognizer.Mode.AUGMENT);
+        String sentence = "Tim Cook said she met Microsoftware staff in New York City.";
+
+        // When
+        List<NamedEntity> entities = recognizer.recognize(sentence, null);
+
+        // Then
+        assertThat(entities).extracting(NamedEntity::getText).containsExactly("Tim Cook", "New York City");
+        assertThat(entities).extracting(NamedEntity::getType).containsExactly("PERSON", "LOCATION");
+        NamedEntity location = entities.get(1);
+        assertThat(sentence.substring(location.getStartIndex(), location.getEndIndex())).isEqualTo("New York City");
+        assertThat(location.getConfidence()).isEqualTo(GazetteerEntityRecognizer.CONFIDENCE);
+    }
+
+    @Test
+    void recognize_withIgnoreCase_shouldMatchAnyCase() {
+        // Given
+        Gazetteer gazetteer = Gazetteer.parse(DICTIONARY, true);
+        StringBuilder matches = new StringBuilder();
+
+        // When
+        gazetteer.match("MICROSOFT and new york", (start, end, type) -> matches.append(type).append(' '));
+
+        // Then
+        assertThat(matches.toString()).isEqualTo("ORGANIZATION LOCATION ");
+    }
+
+    @Test
+    void reloadIfModified_withChangedFile_shouldSwapDictionaryAndNotifyListeners() throws IOException {
+        // Given
+        GazetteerEntityRecognizer recognizer = recognizer(GazetteerEntityRecognizer.Mode.AUGMENT);
+        AtomicInteger reloads = new AtomicInteger();
+        recognizer.addReloadListener(reloads::incrementAndGet);
+        Path file = recognizer.getPath();
+
+        // When
+        boolean unchanged = recognizer.reloadIfModified();
+        Files.writeString(file, "ORGANIZATION\tApple\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        boolean reloaded = recognizer.reloadIfModified();
+
+        // Then
+        assertThat(unchanged).isFalse();
+        assertThat(reloaded).isTrue();
+        assertThat(reloads.get()).isEqualTo(1);
+        assertThat(recognizer.size()).isEqualTo(1);
+        assertThat(recognizer.recognize("Apple and Microsoft", null))
+            .extracting(NamedEntity::getText).containsExactly("Apple");
+    }
+
+    @Test
+    void pipeline_withAugmentMode_shouldAddOnlyNonOverlappingEntities() throws IOException {
+        // Given
+        NlpPipeline pipeline = pipeline(recognizer(GazetteerEntityRecognizer.Mode.AUGMENT));
+
+        // When
+        List<NamedEntity> entities = pipeline.recognize("Tim Cook visited Paris");
+
+        // Then
+        assertThat(entities).extracting(NamedEntity::getText).containsExactly("Tim Cook", "Paris");
+        assertThat(entities).extracting(NamedEntity::getType)
+            .containsExactly("PERSON", RuleBasedEntityRecognizer.ENTITY_TYPE);
+    }
+
+    @Test
+    void pipeline_withShortCircuitMode_shouldSkipLaterRecognizersOnDictionaryHits() throws IOException {
+        // Given
+        NlpPipeline pipeline = pipeline(recognizer(GazetteerEntityRecognizer.Mode.SHORT_CIRCUIT));
+
+        // When
+        List<NamedEntity> hit = pipeline.recognize("Tim Cook visited Paris");
+        List<NamedEntity> miss = pipeline.recognize("Satya Nadella visited Paris");
+
+        // Then
+        assertThat(hit).extracting(NamedEntity::getText).containsExactly("Tim Cook");
+        assertThat(miss).extracting(NamedEntity::getText).containsExactly("Satya Nadella", "Paris");
+    }
+
+    private GazetteerEntityRecognizer recognizer(GazetteerEntityRecognizer.Mode mode) throws IOException {
+        Path file = Files.write(tempDir.resolve("gazetteer.tsv"), DICTIONARY);
+        return new GazetteerEntityRecognizer(file, false, mode);
+    }
+
+    private static NlpPipeline pipeline(GazetteerEntityRecognizer recognizer) {
+        return new NlpPipeline("rule-based", new RuleBasedSentenceSegmenter(),
+                               "rule-based", new RuleBasedTokenizer(),
+                               List.of("dictionary", "rule-based"),
+                               List.of(recognizer, new RuleBasedEntityRecognizer()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.numaflow.nlp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MappedFileInputStream.
+ */
+class MappedFileInputStreamTest {
+
+    private static final byte[] CONTENT = {0, 1, 2, 3, 4, 5, 6, 7, 8, (byte) 0xFF};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_shouldReturnEachByteUnsignedThenEndOfStream() throws IOException {
+        // Given
+        MappedFileInputStream in = open(CONTENT);
+        in.skip(8);
+
+        // When / Then
+        assertThat(in.read()).isEqualTo(8);
+        assertThat(in.read()).isEqualTo(255);
+        assertThat(in.read()).isEqualTo(-1);
+        assertThat(in.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void readIntoArray_shouldFillTheGivenRangeOnly() throws IOException {
+        // Given
+        MappedFileInputStream in = open(CONTENT);
+        byte[] bytes = {-1, -1, -1, -1, -1, -1};
+
+        // When
+        int count = in.read(bytes, 2, 3);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(bytes).containsExactly(-1, -1, 0, 1, 2, -1);
+        assertThat(in.read()).isEqualTo(3);
+    }
+
+    @Test
+    void readIntoArray_nearTheEnd_shouldReturnTheRemainingBytesThenEndOfStream() throws IOException {
+        // Given
+        MappedFileInputStream in = open(CONTENT);
+        in.skip(7);
+        byte[] bytes = new byte[8];
+
+        // When
+        int count = in.read(bytes, 0, bytes.length);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(bytes).startsWith(7, 8, (byte) 0xFF);
+        assertThat(in.read(bytes, 0, bytes.length)).isEqualTo(-1);
+        assertThat(in.read(bytes, 0, 0)).isZero();
+    }
+
+    @Test
+    void readIntoArray_withRangeOutsideTheArray_shouldThrow() throws IOException {
+        // Given
+        MappedFileInputStream in = open(CONTENT);
+
+        // When / Then
+        assertThatThrownBy(() -> in.read(new byte[4], 2, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(in.available()).isEqualTo(CONTENT.length);
+    }
+
+    @Test
+    void skip_pastTheEnd_shouldStopAtTheEnd() throws IOException {
+        // Given
+        MappedFileInputStream in = open(CONTENT);
+
+        // When
+        long skipped = in.skip(100);
+
+        // Then
+        assertThat(skipped).isEqualTo(CONTENT.length);
+        assertThat(in.skip(1)).isZero();
+        assertThat(in.skip(-1)).isZero();
+        assertThat(in.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void available_shouldReturnTheUnreadByteCount() throws IOException {
+        // Given
+        MappedFileInputStream in = open(CONTENT);
+
+        // When / Then
+        assertThat(in.available()).isEqualTo(10);
+        in.read();
+        in.read(new byte[4], 0, 4);
+        assertThat(in.available()).isEqualTo(5);
+        in.skip(5);
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    void read_ofEmptyFile_shouldReturnEndOfStream() throws IOException {
+        // Given
+        MappedFileInputStream in = open(new byte[0]);
+
+        // When / Then
+        assertThat(in.available()).isZero();
+        assertThat(in.read()).isEqualTo(-1);
+        assertThat(in.read(new byte[4], 0, 4)).isEqualTo(-1);
+    }
+
+    private MappedFileInputStream open(byte[] content) throws IOException {
+        return MappedFileInputStream.open(Files.write(tempDir.resolve("model.bin"), content));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NlpEnginePool, with models trained in memory.
+ */
+class NlpEnginePoolTest {
+
+    @Test
+    void acquire_fromConcurrentThreads_shouldHandOutDistinctEngines() throws Exception {
+        // Given
+        int threads = 4;
+        NlpEnginePool pool = new NlpEnginePool(TrainedModels.get());
+        CountDownLatch allAcquired = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Object> sentenceDetectors = ConcurrentHashMap.newKeySet();
+        Set<Object> tokenizers = ConcurrentHashMap.newKeySet();
+        Set<Object> nameFinders = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    // Every thread holds its engines until all threads have acquired theirs
+                    try (NlpEnginePool.Engines engines = pool.acquire()) {
+                        sentenceDetectors.add(engines.getSentenceDetector());
+                        tokenizers.add(engines.getTokenizer());
+                        nameFinders.addAll(engines.getNameFinders().values());
+                        allAcquired.countDown();
+                        return release.await(5, TimeUnit.SECONDS);
+                    }
+                }));
+            }
+            assertThat(allAcquired.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            // Then
+            assertThat(sentenceDetectors).hasSize(threads);
+            assertThat(tokenizers).hasSize(threads);
+            assertThat(nameFinders).hasSize(threads);
+            assertThat(pool.idleCount()).isEqualTo(threads);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void acquire_afterRelease_shouldReuseTheReleasedEngines() throws Exception {
+        // Given
+        NlpEnginePool pool = new NlpEnginePool(TrainedModels.get());
+        SentenceDetectorME released;
+        try (NlpEnginePool.Engines engines = pool.acquire()) {
+            released = engines.getSentenceDetector();
+        }
+
+        // When
+        try (NlpEnginePool.Engines engines = pool.acquire()) {
+
+            // Then
+            assertThat(engines.getSentenceDetector()).isNotNull().isSameAs(released);
+            assertThat(pool.idleCount()).isZero();
+        }
+    }
+}
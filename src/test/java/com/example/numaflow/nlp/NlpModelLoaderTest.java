@@ -0,0 +1,53 @@
+package com.example.numaflow.nlp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for NlpModelLoader.
+ */
+class NlpModelLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void load_withMissingModelAndFallbackDisabled_shouldThrow() {
+        // Given
+        NlpModelLoader loader = new NlpModelLoader()
+            .sentenceModel(tempDir.resolve("en-sent.bin"))
+            .fallbackEnabled(false);
+
+        // When / Then
+        assertThatThrownBy(loader::load)
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("sentence model not found at " + tempDir.resolve("en-sent.bin"));
+    }
+
+    @Test
+    void load_withMissingAndUnreadableModelsAndFallbackEnabled_shouldLoadWithoutThem() throws IOException {
+        // Given
+        Path corruptModel = Files.write(tempDir.resolve("en-ner-person.bin"), new byte[]{1, 2, 3});
+        NlpModelLoader loader = new NlpModelLoader()
+            .sentenceModel(tempDir.resolve("en-sent.bin"))
+            .tokenizerModel(tempDir.resolve("en-token.bin"))
+            .nameFinderModel("PERSON", corruptModel)
+            .fallbackEnabled(true);
+
+        // When
+        NlpModels models = loader.load();
+
+        // Then
+        // Without the models the service runs the rule-based sentence detector, tokenizer and NER
+        assertThat(models.hasSentenceModel()).isFalse();
+        assertThat(models.hasTokenizerModel()).isFalse();
+        assertThat(models.hasNameFinderModels()).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.numaflow.nlp;
+
+import com.example.numaflow.model.NamedEntity;
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.tokenize.WhitespaceTokenizer;
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OpenNlpEntityRecognizer.
+ */
+class OpenNlpEntityRecognizerTest {
+
+    private static final String SENTENCE = "John Smith moved to Paris to join Acme Corp";
+
+    private final EntityRecognizer fallback = mock(EntityRecognizer.class);
+
+    @Test
+    void recognize_withCombinedModel_shouldTypeEntitiesBySpanType() {
+        // Given
+        NlpModels models = NlpModels.builder()
+            .nameFinderModel(NlpModels.COMBINED_NER, mock(TokenNameFinderModel.class))
+            .build();
+        Span[] found = {
+            new Span(0, 2, "person"),
+            new Span(4, 5, "location"),
+            new Span(7, 9, "organization")
+        };
+
+        // When
+        List<NamedEntity> entities = recognize(models, found);
+
+        // Then
+        assertThat(entities).extracting(NamedEntity::getType).containsExactly("PERSON", "LOCATION", "ORGANIZATION");
+        assertThat(entities).extracting(NamedEntity::getText).containsExactly("John Smith", "Paris", "Acme Corp");
+        assertThat(entities).extracting(NamedEntity::getStartIndex).containsExactly(0, 20, 34);
+        assertThat(entities).extracting(NamedEntity::getEndIndex).containsExactly(10, 25, 43);
+    }
+
+    @Test
+    void recognize_withCombinedModelSpanWithoutType_shouldReportUnknownType() {
+        // Given
+        NlpModels models = NlpModels.builder()
+            .nameFinderModel(NlpModels.COMBINED_NER, mock(TokenNameFinderModel.class))
+            .build();
+
+        // When
+        List<NamedEntity> entities = recognize(models, new Span[]{new Span(4, 5)});
+
+        // Then
+        assertThat(entities).extracting(NamedEntity::getType).containsExactly("UNKNOWN");
+    }
+
+    @Test
+    void recognize_withPerTypeModel_shouldTypeEntitiesByModel() {
+        // Given
+        NlpModels models = NlpModels.builder()
+            .nameFinderModel("PERSON", mock(TokenNameFinderModel.class))
+            .build();
+
+        // When
+        List<NamedEntity> entities = recognize(models, new Span[]{new Span(0, 2, "default")});
+
+        // Then
+        assertThat(entities).extracting(NamedEntity::getType).containsExactly("PERSON");
+        assertThat(entities).extracting(NamedEntity::getText).containsExactly("John Smith");
+    }
+
+    @Test
+    void recognize_withoutNameFinderModels_shouldUseFallback() {
+        // Given
+        NlpEnginePool pool = new NlpEnginePool(NlpModels.empty());
+        OpenNlpEntityRecognizer recognizer = new OpenNlpEntityRecognizer(() -> pool, fallback);
+        Span[] tokens = WhitespaceTokenizer.INSTANCE.tokenizePos(SENTENCE);
+        NamedEntity paris = new NamedEntity("Paris", "LOCATION", 20, 25);
+        when(fallback.recognize(eq(SENTENCE), eq(tokens), any())).thenReturn(List.of(paris));
+
+        // When
+        List<NamedEntity> entities = recognizer.recognize(SENTENCE, tokens);
+
+        // Then
+        assertThat(entities).containsExactly(paris);
+    }
+
+    /**
+     * Recognizes the entities of the sentence with name finders that find the given spans.
+     */
+    private List<NamedEntity> recognize(NlpModels models, Span[] found) {
+        NlpEnginePool pool = new NlpEnginePool(models);
+        OpenNlpEntityRecognizer recognizer = new OpenNlpEntityRecognizer(() -> pool, fallback);
+        Span[] tokens = WhitespaceTokenizer.INSTANCE.tokenizePos(SENTENCE);
+
+        try (MockedConstruction<NameFinderME> nameFinders = mockConstruction(NameFinderME.class,
+                (nameFinder, context) -> when(nameFinder.find(any(String[].class))).thenReturn(found))) {
+            return recognizer.recognize(SENTENCE, tokens);
+        }
+    }
+}
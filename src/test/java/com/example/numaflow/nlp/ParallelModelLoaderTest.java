@@ -0,0 +1,79 @@
+package com.example.numaflow.nlp;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ParallelModelLoader.
+ */
+class ParallelModelLoaderTest {
+
+    @Test
+    void load_withSeveralModels_shouldLoadThemConcurrently() throws IOException {
+        // Given
+        CountDownLatch allStarted = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ParallelModelLoader loader = new ParallelModelLoader();
+        for (String name : List.of("first", "second")) {
+            loader.add(name, () -> {
+                threads.add(Thread.currentThread().getName());
+                allStarted.countDown();
+                // Only completes if the other model is loading at the same time
+                if (!awaitQuietly(allStarted)) {
+                    throw new IOException("models were loaded one after another");
+                }
+                return models -> { };
+            });
+        }
+
+        // When
+        loader.load(models -> { });
+
+        // Then
+        assertThat(loader.getProblems()).isEmpty();
+        assertThat(threads).hasSize(2);
+    }
+
+    @Test
+    void load_withFailingModel_shouldReportProblemAndKeepOthers() throws IOException {
+        // Given
+        AtomicInteger progressReports = new AtomicInteger();
+        ParallelModelLoader loader = new ParallelModelLoader()
+            .add("sentence model", () -> models -> { })
+            .add("NER model for PERSON", () -> {
+                throw new IOException("corrupt archive");
+            })
+            .add("tokenizer model", () -> models -> { });
+
+        // When
+        NlpModels models = loader.load(partial -> progressReports.incrementAndGet());
+
+        // Then
+        assertThat(models).isNotNull();
+        assertThat(loader.getProblems()).containsExactly("NER model for PERSON: corrupt archive");
+        assertThat(progressReports.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void load_withoutModels_shouldReturnEmptyModels() throws IOException {
+        assertThat(new ParallelModelLoader().load(models -> { })).isSameAs(NlpModels.empty());
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
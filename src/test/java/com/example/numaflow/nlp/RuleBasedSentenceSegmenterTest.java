@@ -0,0 +1,89 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.util.Span;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RuleBasedSentenceSegmenter.
+ */
+class RuleBasedSentenceSegmenterTest {
+
+    private final RuleBasedSentenceSegmenter segmenter = new RuleBasedSentenceSegmenter();
+
+    @Test
+    void segment_withAbbreviations_shouldNotSplitAfterThem() {
+        // Given
+        String text = "Dr. Smith joined Apple Inc. in 2020. He moved to the U.S. last year! Did it work?";
+
+        // When
+        List<String> sentences = sentences(text);
+
+        // Then
+        assertThat(sentences).containsExactly(
+            "Dr. Smith joined Apple Inc. in 2020.",
+            "He moved to the U.S. last year!",
+            "Did it work?"
+        );
+    }
+
+    @Test
+    void segment_withQuotesAndEllipses_shouldKeepThemInTheSentence() {
+        // Given
+        String text = "She said \"Hello there.\" Then she left... and waited... Nobody came.";
+
+        // When
+        List<String> sentences = sentences(text);
+
+        // Then
+        assertThat(sentences).containsExactly(
+            "She said \"Hello there.\"",
+            "Then she left... and waited...",
+            "Nobody came."
+        );
+    }
+
+    @Test
+    void segment_withRepeatedSentences_shouldTrackEachOffset() {
+        // Given
+        String text = "Yes. Yes.  Yes.";
+
+        // When
+        Span[] spans = segmenter.segment(text);
+
+        // Then
+        assertThat(spans).hasSize(3);
+        assertThat(spans[0].getStart()).isEqualTo(0);
+        assertThat(spans[1].getStart()).isEqualTo(5);
+        assertThat(spans[2].getStart()).isEqualTo(11);
+        assertThat(spans[2].getEnd()).isEqualTo(text.length());
+    }
+
+    @Test
+    void segment_withBlankLinesAndNumbers_shouldSplitOnParagraphsOnly() {
+        // Given
+        String text = "  Quarterly results\n\nRevenue grew 3.5 percent. Costs fell  ";
+
+        // When
+        List<String> sentences = sentences(text);
+
+        // Then
+        assertThat(sentences).containsExactly("Quarterly results", "Revenue grew 3.5 percent.", "Costs fell");
+    }
+
+    @Test
+    void segment_withBlankText_shouldReturnNoSentences() {
+        assertThat(segmenter.segment("")).isEmpty();
+        assertThat(segmenter.segment("   \n ")).isEmpty();
+    }
+
+    private List<String> sentences(String text) {
+        return Arrays.stream(segmenter.segment(text))
+            .map(span -> text.substring(span.getStart(), span.getEnd()))
+            .toList();
+    }
+}
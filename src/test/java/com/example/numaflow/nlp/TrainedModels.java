@@ -0,0 +1,97 @@
+package com.example.numaflow.nlp;
+
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.NameSampleDataStream;
+import opennlp.tools.namefind.TokenNameFinderFactory;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.sentdetect.SentenceDetectorFactory;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.sentdetect.SentenceSampleStream;
+import opennlp.tools.tokenize.TokenSampleStream;
+import opennlp.tools.tokenize.TokenizerFactory;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tiny sentence, tokenizer and person name finder models trained in memory, so tests can run the
+ * model-backed OpenNLP engines without model files. They are trained once per test run.
+ */
+public final class TrainedModels {
+
+    private static final List<String> PERSONS = List.of("John Smith", "Mary Jones", "Tim Cook", "Anna Berg");
+    private static final List<String> CITIES = List.of("Paris", "Berlin", "Seattle", "Rome");
+
+    private static NlpModels models;
+
+    private TrainedModels() {
+    }
+
+    /**
+     * Returns models with a sentence model, a tokenizer model and a {@code PERSON} name finder model.
+     */
+    public static synchronized NlpModels get() throws IOException {
+        if (models == null) {
+            models = NlpModels.builder()
+                .sentenceModel(trainSentenceModel())
+                .tokenizerModel(trainTokenizerModel())
+                .nameFinderModel("PERSON", trainPersonModel())
+                .build();
+        }
+        return models;
+    }
+
+    private static SentenceModel trainSentenceModel() throws IOException {
+        // One sentence per line, an empty line ends a document
+        List<String> lines = new ArrayList<>();
+        for (String person : PERSONS) {
+            for (String city : CITIES) {
+                lines.add(person + " lives in " + city + ".");
+                lines.add("He visited " + city + " last week!");
+                lines.add("Did " + person + " move to " + city + "?");
+                lines.add("");
+            }
+        }
+        return SentenceDetectorME.train("en", new SentenceSampleStream(ObjectStreamUtils.createObjectStream(lines)),
+            new SentenceDetectorFactory("en", true, null, null), parameters());
+    }
+
+    private static TokenizerModel trainTokenizerModel() throws IOException {
+        // Whitespace separates tokens, <SPLIT> separates tokens not separated by whitespace
+        List<String> lines = new ArrayList<>();
+        for (String person : PERSONS) {
+            for (String city : CITIES) {
+                lines.add(person + " lives in " + city + "<SPLIT>.");
+                lines.add("He visited " + city + "<SPLIT>, " + person + "<SPLIT>'s home<SPLIT>!");
+            }
+        }
+        return TokenizerME.train(new TokenSampleStream(ObjectStreamUtils.createObjectStream(lines)),
+            new TokenizerFactory("en", null, false, null), parameters());
+    }
+
+    private static TokenNameFinderModel trainPersonModel() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String person : PERSONS) {
+            for (String city : CITIES) {
+                lines.add("<START:person> " + person + " <END> lives in " + city + " .");
+                lines.add("He visited " + city + " with <START:person> " + person + " <END> .");
+            }
+        }
+        return NameFinderME.train("en", "person",
+            new NameSampleDataStream(ObjectStreamUtils.createObjectStream(lines)), parameters(),
+            new TokenNameFinderFactory());
+    }
+
+    private static TrainingParameters parameters() {
+        TrainingParameters parameters = TrainingParameters.defaultParams();
+        parameters.put(TrainingParameters.ITERATIONS_PARAM, 50);
+        parameters.put(TrainingParameters.CUTOFF_PARAM, 0);
+        return parameters;
+    }
+}
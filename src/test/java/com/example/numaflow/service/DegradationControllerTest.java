@@ -0,0 +1,184 @@
+package com.example.numaflow.service;
+
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.nlp.EnrichmentTier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for DegradationController.
+ */
+class DegradationControllerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final ProcessingProperties.DegradationSettings settings = new ProcessingProperties.DegradationSettings();
+    private final AtomicInteger waitingWork = new AtomicInteger();
+    private long now;
+    private DegradationController controller;
+
+    @BeforeEach
+    void setUp() {
+        settings.setEnabled(true);
+        settings.setLatencyBudgetMs(200);
+        settings.setMaxQueueDepth(10);
+        settings.setStepDownIntervalMs(1000);
+        settings.setStepUpIntervalMs(10000);
+        settings.setRecoveryRatio(0.5);
+        controller = new DegradationController(settings, waitingWork::get, () -> now);
+    }
+
+    @Test
+    void exit_withLatencyOverBudget_shouldStepDownOncePerInterval() {
+        // Given
+        now = TimeUnit.SECONDS.toNanos(1);
+
+        // When
+        complete(10, SLOW);
+        EnrichmentTier afterFirstBurst = controller.getTier();
+        complete(10, SLOW);
+        EnrichmentTier withinInterval = controller.getTier();
+        now += TimeUnit.SECONDS.toNanos(1);
+        complete(10, SLOW);
+
+        // Then
+        assertThat(afterFirstBurst).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+        assertThat(withinInterval).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.RULE_BASED_ENTITIES);
+    }
+
+    @Test
+    void exit_withQueueDepthOverBudget_shouldStepDown() {
+        // Given
+        now = TimeUnit.SECONDS.toNanos(1);
+        waitingWork.set(50);
+
+        // When
+        complete(10, FAST);
+
+        // Then
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+    }
+
+    @Test
+    void exit_shouldNotStepBelowSegmentationOnly() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            now += TimeUnit.SECONDS.toNanos(1);
+            complete(10, SLOW);
+        }
+
+        // Then
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.SEGMENTATION_ONLY);
+    }
+
+    @Test
+    void exit_whenLoadEases_shouldStepUpAfterStepUpInterval() {
+        // Given
+        now = TimeUnit.SECONDS.toNanos(1);
+        complete(10, SLOW);
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+
+        // When
+        now += TimeUnit.SECONDS.toNanos(5);
+        complete(10, FAST);
+        EnrichmentTier beforeInterval = controller.getTier();
+        now += TimeUnit.SECONDS.toNanos(5);
+        complete(10, FAST);
+
+        // Then
+        assertThat(beforeInterval).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.FULL);
+    }
+
+    @Test
+    void exit_withLatencyBetweenRecoveryAndBudget_shouldHoldTier() {
+        // Given
+        now = TimeUnit.SECONDS.toNanos(1);
+        complete(10, SLOW);
+
+        // When
+        now += TimeUnit.SECONDS.toNanos(60);
+        complete(10, TimeUnit.MILLISECONDS.toNanos(150));
+
+        // Then
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+    }
+
+    @Test
+    void exit_withLargeEvents_shouldScaleLatencyToBudgetEventSize() {
+        // Given
+        settings.setBudgetEventChars(4096);
+        controller = new DegradationController(settings, waitingWork::get, () -> now);
+        now = TimeUnit.SECONDS.toNanos(1);
+
+        // When: 2 s for a 4 MB document is 2 ms for 4 KB of text
+        for (int i = 0; i < 10; i++) {
+            EnrichmentTier tier = controller.enter();
+            controller.exit(tier, TimeUnit.SECONDS.toNanos(2), 4L * 1024 * 1024);
+        }
+
+        // Then
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.FULL);
+    }
+
+    @Test
+    void exit_withEventsWithinBudgetEventSize_shouldCountRawLatency() {
+        // Given
+        settings.setBudgetEventChars(4096);
+        controller = new DegradationController(settings, waitingWork::get, () -> now);
+        now = TimeUnit.SECONDS.toNanos(1);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            EnrichmentTier tier = controller.enter();
+            controller.exit(tier, SLOW, 1000);
+        }
+
+        // Then
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+    }
+
+    @Test
+    void exit_ofEventEnrichedAtPreviousTier_shouldNotCount() {
+        // Given
+        now = TimeUnit.SECONDS.toNanos(1);
+        EnrichmentTier staleTier = controller.enter();
+        complete(10, SLOW);
+
+        // When
+        now += TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < 10; i++) {
+            controller.exit(staleTier, SLOW);
+            controller.enter();
+        }
+
+        // Then
+        assertThat(controller.getTier()).isEqualTo(EnrichmentTier.NO_CONTENT_ENTITIES);
+    }
+
+    @Test
+    void constructor_withInvalidRecoveryRatio_shouldThrow() {
+        // Given
+        settings.setRecoveryRatio(1.5);
+
+        // When/Then
+        assertThatThrownBy(() -> new DegradationController(settings, waitingWork::get))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Recovery ratio");
+    }
+
+    private void complete(int events, long latencyNanos) {
+        for (int i = 0; i < events; i++) {
+            EnrichmentTier tier = controller.enter();
+            controller.exit(tier, latencyNanos);
+        }
+    }
+}
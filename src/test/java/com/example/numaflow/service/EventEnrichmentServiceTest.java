@@ -1,22 +1,40 @@
 package com.example.numaflow.service;
 
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.model.BatchEnrichmentResult;
 import com.example.numaflow.model.EnrichedEvent;
 import com.example.numaflow.model.Event;
+import com.example.numaflow.model.EventEnrichmentResult;
 import com.example.numaflow.model.NamedEntity;
 import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.nlp.EnrichmentTier;
+import com.example.numaflow.nlp.SegmentSink;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -47,8 +65,10 @@ class EventEnrichmentServiceTest {
         TextSegment descSegment = new TextSegment("Test Description", 0, 16, 1);
         descSegment.addNamedEntity(new NamedEntity("Description", "UNKNOWN", 5, 16, 0.5));
         
-        when(nlpService.enrichText("Test Title")).thenReturn(List.of(titleSegment));
-        when(nlpService.enrichText("Test Description")).thenReturn(List.of(descSegment));
+        when(nlpService.enrichField(eq("title"), eq("Test Title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(titleSegment));
+        when(nlpService.enrichField(eq("description"), eq("Test Description"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(descSegment));
         
         // When
         EnrichedEvent enrichedEvent = eventEnrichmentService.enrichEvent(event);
@@ -63,6 +83,7 @@ class EventEnrichmentServiceTest {
         assertThat(enrichedEvent.getEnrichmentMetadata()).containsKeys(
             "processedFields", "processingTimeMs", "totalSegments", "totalNamedEntities", "nlpModelsUsed"
         );
+        assertThat(enrichedEvent.getEnrichmentMetadata()).containsEntry("enrichmentTier", "full");
         
         // Check processed fields
         List<String> processedFields = (List<String>) enrichedEvent.getEnrichmentMetadata().get("processedFields");
@@ -90,7 +111,7 @@ class EventEnrichmentServiceTest {
         event.setId("test-id");
         
         TextSegment mockSegment = new TextSegment("Mock", 0, 4, 1);
-        when(nlpService.enrichText(anyString())).thenReturn(List.of(mockSegment));
+        when(nlpService.enrichField(anyString(), anyString(), any(), anyLong())).thenReturn(List.of(mockSegment));
         
         // When
         EnrichedEvent enrichedEvent = eventEnrichmentService.enrichEvent(event);
@@ -111,8 +132,10 @@ class EventEnrichmentServiceTest {
         event.setSummary("Valid Summary");
         
         TextSegment mockSegment = new TextSegment("Mock", 0, 4, 1);
-        when(nlpService.enrichText("Valid Title")).thenReturn(List.of(mockSegment));
-        when(nlpService.enrichText("Valid Summary")).thenReturn(List.of(mockSegment));
+        when(nlpService.enrichField(eq("title"), eq("Valid Title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(mockSegment));
+        when(nlpService.enrichField(eq("summary"), eq("Valid Summary"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(mockSegment));
         
         // When
         EnrichedEvent enrichedEvent = eventEnrichmentService.enrichEvent(event);
@@ -133,7 +156,7 @@ class EventEnrichmentServiceTest {
         List<Event> events = Arrays.asList(event1, event2);
         
         TextSegment mockSegment = new TextSegment("Mock", 0, 4, 1);
-        when(nlpService.enrichText(anyString())).thenReturn(List.of(mockSegment));
+        when(nlpService.enrichField(anyString(), anyString(), any(), anyLong())).thenReturn(List.of(mockSegment));
         
         // When
         List<EnrichedEvent> enrichedEvents = eventEnrichmentService.enrichEvents(events);
@@ -217,7 +240,7 @@ class EventEnrichmentServiceTest {
         Instant beforeProcessing = Instant.now();
         
         TextSegment mockSegment = new TextSegment("Mock", 0, 4, 1);
-        when(nlpService.enrichText(anyString())).thenReturn(List.of(mockSegment));
+        when(nlpService.enrichField(anyString(), anyString(), any(), anyLong())).thenReturn(List.of(mockSegment));
         
         // When
         EnrichedEvent enrichedEvent = eventEnrichmentService.enrichEvent(event);
@@ -231,4 +254,291 @@ class EventEnrichmentServiceTest {
         assertThat(processingTimeMs).isNotNull();
         assertThat(processingTimeMs).isGreaterThanOrEqualTo(0);
     }
+    
+    @Test
+    void enrichEvent_withParallelProcessing_shouldKeepFieldOrder() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(4);
+        properties.setParallelThresholdChars(0);
+        EventEnrichmentService parallelService = new EventEnrichmentService(nlpService, properties);
+        
+        Event event = new Event("Title", "Description");
+        event.setContent("Content text");
+        event.setSummary("Summary text");
+        
+        when(nlpService.enrichField(eq("title"), eq("Title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(new TextSegment("Title", 0, 5, 1)));
+        when(nlpService.enrichField(eq("description"), eq("Description"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(new TextSegment("Description", 0, 11, 1)));
+        when(nlpService.enrichField(eq("content"), eq("Content text"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(new TextSegment("Content text", 0, 12, 1)));
+        when(nlpService.enrichField(eq("summary"), eq("Summary text"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(new TextSegment("Summary text", 0, 12, 1)));
+        
+        try {
+            // When
+            EnrichedEvent enrichedEvent = parallelService.enrichEvent(event);
+            
+            // Then
+            assertThat(enrichedEvent.getEnrichedFields().keySet())
+                .containsExactly("title", "description", "content", "summary");
+            assertThat(enrichedEvent.getEnrichedFields().get("content").get(0).getText()).isEqualTo("Content text");
+            
+            List<String> processedFields = (List<String>) enrichedEvent.getEnrichmentMetadata().get("processedFields");
+            assertThat(processedFields).containsExactly("title", "description", "content", "summary");
+        } finally {
+            parallelService.shutdown();
+        }
+    }
+    
+    @Test
+    void enrichBatch_withFailingAndSlowEvents_shouldReportEachOutcome() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(2);
+        properties.setTimeoutMs(100);
+        EventEnrichmentService batchService = new EventEnrichmentService(nlpService, properties);
+        
+        Event ok = new Event("Fine title", "");
+        ok.setId("ok");
+        Event failing = new Event("Broken title", "");
+        failing.setId("failing");
+        Event slow = new Event("Slow title", "");
+        slow.setId("slow");
+        
+        when(nlpService.enrichField(eq("title"), eq("Fine title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(new TextSegment("Fine title", 0, 10, 1)));
+        when(nlpService.enrichField(eq("title"), eq("Broken title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenThrow(new IllegalStateException("boom"));
+        when(nlpService.enrichField(eq("title"), eq("Slow title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenAnswer(invocation -> {
+                Thread.sleep(300);
+                return List.of(new TextSegment("Slow title", 0, 10, 1));
+            });
+        
+        try {
+            // When
+            BatchEnrichmentResult result = batchService.enrichBatch(Arrays.asList(ok, failing, slow));
+            
+            // Then
+            assertThat(result.getResults()).extracting(EventEnrichmentResult::getEventId)
+                .containsExactly("ok", "failing", "slow");
+            assertThat(result.getResults()).extracting(EventEnrichmentResult::getStatus)
+                .containsExactly(EventEnrichmentResult.Status.SUCCESS,
+                                 EventEnrichmentResult.Status.FAILURE,
+                                 EventEnrichmentResult.Status.TIMEOUT);
+            assertThat(result.getResults().get(1).getErrorMessage()).contains("boom");
+            assertThat(result.getEnrichedEvents()).hasSize(1);
+            assertThat(result.getSuccessCount()).isEqualTo(1);
+            assertThat(result.getFailureCount()).isEqualTo(1);
+            assertThat(result.getTimeoutCount()).isEqualTo(1);
+        } finally {
+            batchService.shutdown();
+        }
+    }
+    
+    @Test
+    void enrichBatch_sequentially_shouldEnforceEachEventsTimeoutFromItsStart() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(1);
+        properties.setTimeoutMs(100);
+        EventEnrichmentService batchService = new EventEnrichmentService(nlpService, properties);
+        
+        Event endless = new Event("Endless title", "");
+        endless.setId("endless");
+        Event slowButDone = new Event("Slow title", "");
+        slowButDone.setId("slow");
+        Event ok = new Event("Fine title", "");
+        ok.setId("ok");
+        
+        // Checks its deadline between sentences, like NlpEnrichmentService
+        when(nlpService.enrichField(eq("title"), eq("Endless title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenAnswer(invocation -> {
+                while (true) {
+                    NlpEnrichmentService.checkDeadline(invocation.getArgument(3));
+                    Thread.sleep(10);
+                }
+            });
+        when(nlpService.enrichField(eq("title"), eq("Slow title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenAnswer(invocation -> {
+                Thread.sleep(80);
+                return List.of(new TextSegment("Slow title", 0, 10, 1));
+            });
+        when(nlpService.enrichField(eq("title"), eq("Fine title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(new TextSegment("Fine title", 0, 10, 1)));
+        
+        // When
+        long start = System.nanoTime();
+        BatchEnrichmentResult result = batchService.enrichBatch(Arrays.asList(endless, slowButDone, ok));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        
+        // Then
+        assertThat(result.getResults()).extracting(EventEnrichmentResult::getStatus)
+            .containsExactly(EventEnrichmentResult.Status.TIMEOUT,
+                             EventEnrichmentResult.Status.SUCCESS,
+                             EventEnrichmentResult.Status.SUCCESS);
+        assertThat(result.getResults().get(1).getEnrichedEvent()).isNotNull();
+        assertThat(elapsedMs).isLessThan(1000);
+    }
+    
+    @Test
+    void enrichBatch_withEventsHoldingEveryWorker_shouldGiveUpAtTheirDeadline() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(2);
+        properties.setTimeoutMs(100);
+        EventEnrichmentService batchService = new EventEnrichmentService(nlpService, properties);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Event hung = new Event("Hung title", "");
+            hung.setId("hung-" + i);
+            events.add(hung);
+        }
+        // Never checks its deadline, like a single sentence that does not end
+        when(nlpService.enrichField(eq("title"), eq("Hung title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenAnswer(invocation -> {
+                release.await();
+                return List.of(new TextSegment("Hung title", 0, 10, 1));
+            });
+        
+        try {
+            // When
+            long start = System.nanoTime();
+            BatchEnrichmentResult result = batchService.enrichBatch(events);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            
+            // Then
+            assertThat(result.getTimeoutCount()).isEqualTo(6);
+            assertThat(result.getResults()).extracting(EventEnrichmentResult::getEventId)
+                .containsExactly("hung-0", "hung-1", "hung-2", "hung-3", "hung-4", "hung-5");
+            assertThat(elapsedMs).isLessThan(1000);
+        } finally {
+            release.countDown();
+            batchService.shutdown();
+        }
+    }
+    
+    @Test
+    void enrichBatch_sequentially_shouldStepDownOnBatchBacklog() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(1);
+        properties.getDegradation().setEnabled(true);
+        properties.getDegradation().setLatencyBudgetMs(10000);
+        properties.getDegradation().setMaxQueueDepth(2);
+        properties.getDegradation().setStepDownIntervalMs(0);
+        EventEnrichmentService degradingService = new EventEnrichmentService(nlpService, properties);
+        
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add(new Event("Fine title", ""));
+        }
+        when(nlpService.enrichField(anyString(), anyString(), any(), anyLong()))
+            .thenReturn(List.of(new TextSegment("Fine title", 0, 10, 1)));
+        
+        // When
+        BatchEnrichmentResult result = degradingService.enrichBatch(events);
+        
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(20);
+        assertThat(degradingService.getTier()).isNotEqualTo(EnrichmentTier.FULL);
+    }
+    
+    @Test
+    void writeEnrichedEvent_shouldWriteSameJsonAsEnrichedEvent() throws Exception {
+        // Given
+        Event event = new Event("Test Title", "Test Description");
+        event.setId("test-id");
+        
+        TextSegment titleSegment = new TextSegment("Test Title", 0, 10, 1);
+        titleSegment.addNamedEntity(new NamedEntity("Test", "UNKNOWN", 0, 4, 0.5));
+        TextSegment descSegment = new TextSegment("Test Description", 0, 16, 1);
+        
+        when(nlpService.enrichField(eq("title"), eq("Test Title"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(titleSegment));
+        when(nlpService.enrichField(eq("description"), eq("Test Description"), eq(EnrichmentTier.FULL), anyLong()))
+            .thenReturn(List.of(descSegment));
+        when(nlpService.enrichFieldStreaming(anyString(), any(), any(), any())).thenAnswer(invocation -> {
+            SegmentSink sink = invocation.getArgument(3);
+            List<TextSegment> segments = "title".equals(invocation.getArgument(0))
+                ? List.of(titleSegment) : List.of(descSegment);
+            for (TextSegment segment : segments) {
+                sink.accept(segment);
+            }
+            return segments.size();
+        });
+        ObjectMapper mapper = JsonMappers.wire(true);
+        
+        // When
+        JsonNode expected = mapper.readTree(mapper.writeValueAsBytes(eventEnrichmentService.enrichEvent(event)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.createGenerator(output)) {
+            eventEnrichmentService.writeEnrichedEvent(event, Map.of("status", "enriched"), generator);
+        }
+        JsonNode streamed = mapper.readTree(output.toByteArray());
+        
+        // Then
+        assertThat(streamed.get("originalEvent")).isEqualTo(expected.get("originalEvent"));
+        assertThat(streamed.get("enrichedFields")).isEqualTo(expected.get("enrichedFields"));
+        JsonNode metadata = streamed.get("enrichmentMetadata");
+        assertThat(metadata.get("totalSegments").asInt()).isEqualTo(2);
+        assertThat(metadata.get("totalNamedEntities").asInt()).isEqualTo(1);
+        assertThat(metadata.get("processedFields")).isEqualTo(expected.get("enrichmentMetadata").get("processedFields"));
+        assertThat(metadata.get("streamed").asBoolean()).isTrue();
+        assertThat(metadata.get("status").asText()).isEqualTo("enriched");
+    }
+    
+    @Test
+    void shouldStream_shouldCompareLongestFieldWithThreshold() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setStreamingThresholdChars(20);
+        EventEnrichmentService streamingService = new EventEnrichmentService(nlpService, properties);
+        
+        try {
+            // When / Then
+            assertThat(streamingService.shouldStream(new Event("Short", "Also short"))).isFalse();
+            assertThat(streamingService.shouldStream(new Event("Short", "A description of twenty chars"))).isTrue();
+            properties.setStreamingThresholdChars(0);
+            assertThat(streamingService.shouldStream(new Event("Short", "A description of twenty chars"))).isFalse();
+        } finally {
+            streamingService.shutdown();
+        }
+    }
+    
+    @Test
+    void enrichEvent_withDegradationController_shouldEnrichAtControllerTier() {
+        // Given
+        ProcessingProperties properties = new ProcessingProperties();
+        properties.setParallelism(1);
+        properties.getDegradation().setEnabled(true);
+        properties.getDegradation().setLatencyBudgetMs(1);
+        properties.getDegradation().setStepDownIntervalMs(0);
+        EventEnrichmentService degradingService = new EventEnrichmentService(nlpService, properties);
+        
+        Event event = new Event("Slow title", "");
+        event.setId("slow");
+        when(nlpService.enrichField(anyString(), anyString(), any(), anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return List.of(new TextSegment("Slow title", 0, 10, 1));
+        });
+        
+        // When
+        List<Object> tiers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tiers.add(degradingService.enrichEvent(event).getEnrichmentMetadata().get("enrichmentTier"));
+        }
+        
+        // Then
+        assertThat(tiers.get(0)).isEqualTo("full");
+        assertThat(tiers).contains("no-content-entities", "rule-based-entities");
+        assertThat(tiers.get(tiers.size() - 1)).isEqualTo("segmentation-only");
+        assertThat(degradingService.getTier()).isEqualTo(EnrichmentTier.SEGMENTATION_ONLY);
+        verify(nlpService, atLeastOnce())
+            .enrichField(eq("title"), eq("Slow title"), eq(EnrichmentTier.SEGMENTATION_ONLY), anyLong());
+    }
 }
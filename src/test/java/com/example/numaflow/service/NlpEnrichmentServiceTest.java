@@ -1,7 +1,14 @@
 package com.example.numaflow.service;
 
+import com.example.numaflow.config.NlpEngineProperties;
 import com.example.numaflow.model.NamedEntity;
 import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.nlp.EnrichmentTier;
+import com.example.numaflow.nlp.NlpModels;
+import com.example.numaflow.nlp.NlpPipeline;
+import com.example.numaflow.nlp.TrainedModels;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.tokenize.TokenizerModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,9 +17,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.Resource;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -38,6 +55,9 @@ class NlpEnrichmentServiceTest {
     @Mock
     private Resource organizationModelResource;
     
+    @Mock
+    private Resource combinedModelResource;
+    
     @BeforeEach
     void setUp() {
         nlpService = new NlpEnrichmentService();
@@ -178,6 +198,28 @@ class NlpEnrichmentServiceTest {
         assertThat(microsoftEntity.getType()).isEqualTo("UNKNOWN");
     }
     
+    @Test
+    void enrichText_fallbackNamedEntityRecognition_shouldMergeCapitalizedRuns() {
+        // Given
+        String text = "The keynote by Tim Cook in New York City was covered by \"Reuters\", Bloomberg and others.";
+        
+        // When
+        List<TextSegment> segments = nlpService.enrichText(text);
+        
+        // Then
+        List<String> entityTexts = segments.stream()
+            .flatMap(segment -> segment.getNamedEntities().stream())
+            .map(NamedEntity::getText)
+            .toList();
+        assertThat(entityTexts).containsExactly("Tim Cook", "New York City", "Reuters", "Bloomberg");
+        
+        for (TextSegment segment : segments) {
+            for (NamedEntity entity : segment.getNamedEntities()) {
+                assertThat(text.substring(entity.getStartIndex(), entity.getEndIndex())).isEqualTo(entity.getText());
+            }
+        }
+    }
+    
     @Test
     void enrichText_withComplexText_shouldProvideCorrectIndices() {
         // Given
@@ -200,4 +242,358 @@ class NlpEnrichmentServiceTest {
             assertThat(segment.getText()).isEqualTo(extractedText);
         }
     }
+    
+    @Test
+    void enrichText_withOffsetsOnly_shouldResolveSameTextFromSource() {
+        // Given
+        String text = "John Doe works at Microsoft in Seattle. He loves programming.";
+        List<TextSegment> withText = nlpService.enrichText(text);
+        nlpService.setOffsetsOnly(true);
+        
+        // When
+        List<TextSegment> offsetsOnly = nlpService.enrichText(text);
+        
+        // Then
+        assertThat(offsetsOnly).hasSameSizeAs(withText);
+        for (int i = 0; i < offsetsOnly.size(); i++) {
+            TextSegment segment = offsetsOnly.get(i);
+            assertThat(segment.getText()).isNull();
+            assertThat(segment.resolveText(text)).isEqualTo(withText.get(i).getText());
+            assertThat(segment.getStartIndex()).isEqualTo(withText.get(i).getStartIndex());
+            
+            List<NamedEntity> entities = segment.getNamedEntities();
+            assertThat(entities).hasSameSizeAs(withText.get(i).getNamedEntities());
+            for (int j = 0; j < entities.size(); j++) {
+                assertThat(entities.get(j).getText()).isNull();
+                assertThat(entities.get(j).resolveText(text))
+                    .isEqualTo(withText.get(i).getNamedEntities().get(j).getText());
+            }
+        }
+    }
+    
+    @Test
+    void enrichText_withRepeatedSentence_shouldServeRebasedEntitiesFromCache() {
+        // Given
+        String sentence = "John works at Microsoft.";
+        String text = sentence + " " + sentence;
+        
+        // When
+        List<TextSegment> segments = nlpService.enrichText(text);
+        
+        // Then
+        assertThat(segments).hasSize(2);
+        List<NamedEntity> first = segments.get(0).getNamedEntities();
+        List<NamedEntity> second = segments.get(1).getNamedEntities();
+        assertThat(second).hasSameSizeAs(first).isNotEmpty();
+        
+        int shift = segments.get(1).getStartIndex() - segments.get(0).getStartIndex();
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).isNotSameAs(first.get(i));
+            assertThat(second.get(i).getText()).isEqualTo(first.get(i).getText());
+            assertThat(second.get(i).getStartIndex()).isEqualTo(first.get(i).getStartIndex() + shift);
+            assertThat(second.get(i).getText()).isEqualTo(
+                text.substring(second.get(i).getStartIndex(), second.get(i).getEndIndex()));
+        }
+        assertThat(nlpService.getEntityCache().getCache().stats().hitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void enrichField_withFieldEngines_shouldUseTheFieldPipeline() {
+        // Given
+        NlpEngineProperties.FieldEngines titleEngines = new NlpEngineProperties.FieldEngines();
+        titleEngines.setSentenceSegmenter(NlpEngineProperties.RULE_BASED);
+        titleEngines.setEntityRecognizers(List.of(NlpEnrichmentService.NO_ENTITY_RECOGNIZER));
+        NlpEngineProperties properties = new NlpEngineProperties();
+        properties.getFields().put("title", titleEngines);
+        nlpService.setEngineProperties(properties);
+        String text = "John works at Microsoft.";
+        
+        // When
+        List<TextSegment> titleSegments = nlpService.enrichField("title", text);
+        List<TextSegment> contentSegments = nlpService.enrichField("content", text);
+        
+        // Then
+        assertThat(nlpService.getPipeline("title").getName()).isEqualTo("rule-based/opennlp/none");
+        assertThat(nlpService.getPipeline("content").getName()).isEqualTo("opennlp/opennlp/opennlp");
+        assertThat(titleSegments).hasSize(1);
+        assertThat(titleSegments.get(0).getNamedEntities()).isEmpty();
+        assertThat(contentSegments.get(0).getNamedEntities()).hasSize(2);
+    }
+    
+    @Test
+    void enrichText_withConcurrentCallers_shouldReturnSameResultAsSequential() throws Exception {
+        // Given
+        String text = "John Doe works at Microsoft in Seattle. He loves programming. Apple Inc. is in California.";
+        List<TextSegment> expected = nlpService.enrichText(text);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        try {
+            // When
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> nlpService.enrichText(text)));
+            }
+            
+            // Then
+            for (Future<List<TextSegment>> future : futures) {
+                List<TextSegment> actual = future.get();
+                assertThat(actual).isEqualTo(expected);
+                for (int i = 0; i < actual.size(); i++) {
+                    assertThat(actual.get(i).getNamedEntities()).isEqualTo(expected.get(i).getNamedEntities());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void enrichText_withTrainedModelsAndConcurrentCallers_shouldReturnSameResultAsSequential() throws Exception {
+        // Given
+        nlpService.installModels(TrainedModels.get());
+        // Every call must run the OpenNLP engines rather than reuse cached entities
+        nlpService.setEntityCache(null);
+        String text = "John Smith lives in Paris. He visited Berlin last week! Did Mary Jones move to Rome?";
+        List<TextSegment> expected = nlpService.enrichText(text);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        try {
+            // When
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return nlpService.enrichText(text);
+                }));
+            }
+            start.countDown();
+            
+            // Then
+            assertThat(nlpService.getModels().hasSentenceModel()).isTrue();
+            assertThat(nlpService.getModels().hasTokenizerModel()).isTrue();
+            assertThat(nlpService.getModels().hasNameFinderModels()).isTrue();
+            for (Future<List<TextSegment>> future : futures) {
+                List<TextSegment> actual = future.get();
+                assertThat(actual).isEqualTo(expected);
+                for (int i = 0; i < actual.size(); i++) {
+                    assertThat(actual.get(i).getNamedEntities()).isEqualTo(expected.get(i).getNamedEntities());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void enrichFieldStreaming_withSmallWindow_shouldMatchInMemoryEnrichment() throws Exception {
+        // Given
+        String text = "John Doe works at Microsoft in Seattle. He loves programming. "
+            + "Apple Inc. is in California. Tim Cook visited Paris last week.";
+        List<TextSegment> expected = nlpService.enrichField("content", text);
+        nlpService.setStreamingWindowChars(48);
+        List<TextSegment> streamed = new ArrayList<>();
+        
+        // When
+        int count = nlpService.enrichFieldStreaming("content", text, streamed::add);
+        
+        // Then
+        assertThat(count).isEqualTo(streamed.size());
+        assertThat(streamed).extracting(TextSegment::getText)
+            .containsExactlyElementsOf(expected.stream().map(TextSegment::getText).toList());
+        for (int i = 0; i < streamed.size(); i++) {
+            TextSegment segment = streamed.get(i);
+            assertThat(segment.getStartIndex()).isEqualTo(expected.get(i).getStartIndex());
+            assertThat(segment.getEndIndex()).isEqualTo(expected.get(i).getEndIndex());
+            assertThat(segment.getNamedEntities()).isEqualTo(expected.get(i).getNamedEntities());
+        }
+    }
+    
+    @Test
+    void enrichFieldStreaming_withSentenceLongerThanWindow_shouldSplitAtWhitespace() throws Exception {
+        // Given
+        String text = "word ".repeat(40).trim();
+        nlpService.setStreamingWindowChars(32);
+        List<TextSegment> streamed = new ArrayList<>();
+        
+        // When
+        nlpService.enrichFieldStreaming("content", text, streamed::add);
+        
+        // Then
+        assertThat(streamed).hasSizeGreaterThan(1);
+        for (TextSegment segment : streamed) {
+            assertThat(segment.getEndIndex() - segment.getStartIndex()).isLessThanOrEqualTo(32);
+            assertThat(segment.getText()).isEqualTo(text.substring(segment.getStartIndex(), segment.getEndIndex()));
+        }
+        assertThat(streamed.get(streamed.size() - 1).getEndIndex()).isEqualTo(text.length());
+    }
+    
+    @Test
+    void enrichField_atDegradedTiers_shouldKeepSegmentsAndCutEntityRecognition() {
+        // Given
+        String text = "John Doe works at Microsoft in Seattle. Apple Inc. is in California.";
+        
+        // When
+        List<TextSegment> full = nlpService.enrichField("content", text, EnrichmentTier.FULL);
+        List<TextSegment> content = nlpService.enrichField("content", text, EnrichmentTier.NO_CONTENT_ENTITIES);
+        List<TextSegment> title = nlpService.enrichField("title", text, EnrichmentTier.NO_CONTENT_ENTITIES);
+        List<TextSegment> segmentationOnly = nlpService.enrichField("title", text, EnrichmentTier.SEGMENTATION_ONLY);
+        
+        // Then
+        assertThat(full).allSatisfy(segment -> assertThat(segment.getNamedEntities()).isNotEmpty());
+        assertThat(content).isEqualTo(full);
+        assertThat(content).allSatisfy(segment -> assertThat(segment.getNamedEntities()).isEmpty());
+        assertThat(segmentationOnly).isEqualTo(full);
+        assertThat(segmentationOnly).allSatisfy(segment -> assertThat(segment.getNamedEntities()).isEmpty());
+        for (int i = 0; i < full.size(); i++) {
+            assertThat(title.get(i).getNamedEntities()).isEqualTo(full.get(i).getNamedEntities());
+        }
+    }
+    
+    @Test
+    void getPipeline_atRuleBasedTier_shouldUseRuleBasedRecognizerOutsideContent() {
+        // When
+        NlpPipeline title = nlpService.getPipeline("title", EnrichmentTier.RULE_BASED_ENTITIES);
+        NlpPipeline content = nlpService.getPipeline("content", EnrichmentTier.RULE_BASED_ENTITIES);
+        
+        // Then
+        assertThat(title.getEntityStageName()).isEqualTo("rule-based/rule-based");
+        assertThat(content.recognizesEntities()).isFalse();
+        assertThat(nlpService.getPipeline("title", EnrichmentTier.FULL)).isSameAs(nlpService.getPipeline("title"));
+    }
+    
+    @Test
+    void nerModelResources_inPerTypeMode_shouldUseOneModelPerEntityType() {
+        // Given
+        ReflectionTestUtils.setField(nlpService, "nerMode", "per-type");
+        ReflectionTestUtils.setField(nlpService, "combinedModelResource", combinedModelResource);
+        
+        // When
+        Map<String, Resource> resources = nlpService.nerModelResources();
+        
+        // Then
+        assertThat(resources).containsExactly(
+            entry("PERSON", personModelResource),
+            entry("LOCATION", locationModelResource),
+            entry("ORGANIZATION", organizationModelResource));
+    }
+    
+    @Test
+    void nerModelResources_inCombinedMode_shouldUseOnlyTheCombinedModel() {
+        // Given
+        ReflectionTestUtils.setField(nlpService, "nerMode", "combined");
+        ReflectionTestUtils.setField(nlpService, "combinedModelResource", combinedModelResource);
+        
+        // When
+        Map<String, Resource> resources = nlpService.nerModelResources();
+        
+        // Then
+        assertThat(resources).containsExactly(entry(NlpModels.COMBINED_NER, combinedModelResource));
+    }
+    
+    @Test
+    void loadModels_withoutServeWhileLoading_shouldReturnOnceEveryModelIsInstalled() throws IOException {
+        // Given
+        NlpModels sentenceOnly = NlpModels.builder().sentenceModel(mock(SentenceModel.class)).build();
+        NlpModels complete = NlpModels.builder().sentenceModel(sentenceOnly.getSentenceModel())
+            .tokenizerModel(mock(TokenizerModel.class)).build();
+        
+        // When
+        nlpService.loadModels(progress -> {
+            progress.accept(sentenceOnly);
+            return complete;
+        });
+        
+        // Then
+        assertThat(nlpService.getModels()).isSameAs(complete);
+        assertThat(nlpService.isLoadingModels()).isFalse();
+        assertThat(nlpService.isReady()).isTrue();
+    }
+    
+    @Test
+    void loadModels_servingWhileLoading_shouldReturnOnceSentenceModelIsIn() throws Exception {
+        // Given
+        nlpService.setServeWhileLoading(true);
+        NlpModels sentenceOnly = NlpModels.builder().sentenceModel(mock(SentenceModel.class)).build();
+        NlpModels complete = NlpModels.builder().sentenceModel(sentenceOnly.getSentenceModel())
+            .tokenizerModel(mock(TokenizerModel.class)).build();
+        CountDownLatch release = new CountDownLatch(1);
+        
+        // When
+        nlpService.loadModels(progress -> {
+            progress.accept(sentenceOnly);
+            awaitQuietly(release);
+            return complete;
+        });
+        
+        // Then
+        Thread loader = modelLoadingThread();
+        assertThat(loader.isDaemon()).isTrue();
+        assertThat(nlpService.isLoadingModels()).isTrue();
+        assertThat(nlpService.isReady()).isTrue();
+        assertThat(nlpService.getModels().hasSentenceModel()).isTrue();
+        assertThat(nlpService.getModels().hasTokenizerModel()).isFalse();
+        
+        release.countDown();
+        loader.join(5000);
+        assertThat(nlpService.isLoadingModels()).isFalse();
+        assertThat(nlpService.isReady()).isTrue();
+        assertThat(nlpService.getModels()).isSameAs(complete);
+    }
+    
+    @Test
+    void loadModels_servingWhileLoading_withFailureBeforeSentenceModel_shouldThrow() {
+        // Given
+        nlpService.setServeWhileLoading(true);
+        
+        // When / Then
+        assertThatThrownBy(() -> nlpService.loadModels(progress -> {
+            throw new IOException("corrupt sentence model");
+        }))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("corrupt sentence model");
+        assertThat(nlpService.isLoadingModels()).isFalse();
+        assertThat(nlpService.isReady()).isFalse();
+    }
+    
+    @Test
+    void loadModels_servingWhileLoading_withFailureAfterServing_shouldBecomeUnready() throws Exception {
+        // Given
+        nlpService.setServeWhileLoading(true);
+        NlpModels sentenceOnly = NlpModels.builder().sentenceModel(mock(SentenceModel.class)).build();
+        CountDownLatch release = new CountDownLatch(1);
+        
+        // When
+        nlpService.loadModels(progress -> {
+            progress.accept(sentenceOnly);
+            awaitQuietly(release);
+            throw new IOException("corrupt NER model");
+        });
+        boolean readyWhileLoading = nlpService.isReady();
+        Thread loader = modelLoadingThread();
+        release.countDown();
+        loader.join(5000);
+        
+        // Then
+        assertThat(readyWhileLoading).isTrue();
+        assertThat(nlpService.isLoadingModels()).isFalse();
+        assertThat(nlpService.isReady()).isFalse();
+        // Segmentation keeps the sentence model installed before the failure
+        assertThat(nlpService.getModels().hasSentenceModel()).isTrue();
+    }
+    
+    private static Thread modelLoadingThread() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("nlp-model-loading"))
+            .findFirst()
+            .orElseThrow();
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
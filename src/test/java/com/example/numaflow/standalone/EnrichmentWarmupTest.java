@@ -0,0 +1,121 @@
+package com.example.numaflow.standalone;
+
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.metrics.EnrichmentMetrics;
+import com.example.numaflow.nlp.EnrichmentTier;
+import com.example.numaflow.nlp.EntityCache;
+import com.example.numaflow.nlp.NlpModels;
+import com.example.numaflow.service.DegradationController;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EnrichmentWarmup.
+ */
+class EnrichmentWarmupTest {
+
+    private final ObjectMapper objectMapper = JsonMappers.wire(true);
+    private final ProcessingProperties properties = new ProcessingProperties();
+    private final SimpleMeterRegistry nlpRegistry = new SimpleMeterRegistry();
+    private final SimpleMeterRegistry enrichmentRegistry = new SimpleMeterRegistry();
+    private NlpEnrichmentService nlpService;
+    private EventEnrichmentService enrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        properties.setParallelism(1);
+        // A budget every event overshoots, so the warmup would step the tier down if it were counted
+        properties.getDegradation().setEnabled(true);
+        properties.getDegradation().setLatencyBudgetMs(1);
+        properties.getDegradation().setStepDownIntervalMs(0);
+
+        nlpService = new NlpEnrichmentService(NlpModels.empty());
+        nlpService.setEntityCache(new EntityCache(EntityCache.DEFAULT_MAXIMUM_WEIGHT));
+        nlpService.setMetrics(new EnrichmentMetrics(nlpRegistry));
+        enrichmentService = new EventEnrichmentService(nlpService, properties);
+        enrichmentService.setMetrics(new EnrichmentMetrics(enrichmentRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentService.shutdown();
+    }
+
+    @Test
+    void run_shouldStopAfterTheConfiguredIterations() throws Exception {
+        // Given
+        EnrichmentWarmup warmup = new EnrichmentWarmup(enrichmentService, nlpService, objectMapper,
+                                                       25, Duration.ofMinutes(1));
+
+        // When
+        int count = warmup.run();
+
+        // Then
+        assertThat(count).isEqualTo(25);
+    }
+
+    @Test
+    void run_shouldStopAtTheConfiguredDuration() throws Exception {
+        // Given
+        EnrichmentWarmup warmup = new EnrichmentWarmup(enrichmentService, nlpService, objectMapper,
+                                                       Integer.MAX_VALUE, Duration.ofMillis(200));
+        long start = System.nanoTime();
+
+        // When
+        int count = warmup.run();
+
+        // Then
+        assertThat(count).isPositive().isLessThan(Integer.MAX_VALUE);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void run_withZeroDuration_shouldProcessNoEvents() throws Exception {
+        // Given
+        EnrichmentWarmup warmup = new EnrichmentWarmup(enrichmentService, nlpService, objectMapper,
+                                                       25, Duration.ZERO);
+
+        // When
+        int count = warmup.run();
+
+        // Then
+        assertThat(count).isZero();
+    }
+
+    @Test
+    void run_shouldLeaveCacheMetricsAndDegradationAsBefore() throws Exception {
+        // Given
+        EntityCache entityCache = nlpService.getEntityCache();
+        EnrichmentMetrics nlpMetrics = nlpService.getMetrics();
+        EnrichmentMetrics enrichmentMetrics = enrichmentService.getMetrics();
+        DegradationController degradation = enrichmentService.getDegradation();
+        EnrichmentWarmup warmup = new EnrichmentWarmup(enrichmentService, nlpService, objectMapper,
+                                                       50, Duration.ofMinutes(1));
+
+        // When
+        int count = warmup.run();
+
+        // Then
+        assertThat(count).isEqualTo(50);
+        assertThat(nlpService.getEntityCache()).isSameAs(entityCache);
+        assertThat(entityCache.getCache().estimatedSize()).isZero();
+
+        assertThat(nlpService.getMetrics()).isSameAs(nlpMetrics);
+        assertThat(enrichmentService.getMetrics()).isSameAs(enrichmentMetrics);
+        assertThat(nlpRegistry.find(EnrichmentMetrics.STAGE_DURATION).timers()).isEmpty();
+        assertThat(nlpRegistry.find(EnrichmentMetrics.SEGMENTS).counters()).isEmpty();
+
+        assertThat(enrichmentService.getDegradation()).isSameAs(degradation);
+        assertThat(degradation.getTier()).isEqualTo(EnrichmentTier.FULL);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.numaflow.standalone;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HealthServer.
+ */
+class HealthServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private PrometheusMeterRegistry meterRegistry;
+    private HealthServer healthServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        healthServer = new HealthServer(0, meterRegistry);
+        healthServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        healthServer.close();
+    }
+
+    @Test
+    void liveness_shouldBeUpBeforeReady() throws Exception {
+        // When
+        HttpResponse<String> response = get(HealthServer.LIVENESS_PATH);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"UP\"");
+    }
+
+    @Test
+    void readiness_shouldBeOutOfServiceUntilReadinessIsSet() throws Exception {
+        // When
+        HttpResponse<String> before = get(HealthServer.READINESS_PATH);
+        healthServer.setReadiness(() -> true);
+        HttpResponse<String> after = get(HealthServer.READINESS_PATH);
+
+        // Then
+        assertThat(before.statusCode()).isEqualTo(503);
+        assertThat(before.body()).contains("OUT_OF_SERVICE");
+        assertThat(after.statusCode()).isEqualTo(200);
+        assertThat(get(HealthServer.HEALTH_PATH).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void readiness_shouldFollowReadinessCheck() throws Exception {
+        // Given
+        AtomicBoolean modelsReady = new AtomicBoolean();
+        healthServer.setReadiness(modelsReady::get);
+
+        // When
+        int whileLoading = get(HealthServer.READINESS_PATH).statusCode();
+        modelsReady.set(true);
+        int loaded = get(HealthServer.READINESS_PATH).statusCode();
+
+        // Then
+        assertThat(whileLoading).isEqualTo(503);
+        assertThat(loaded).isEqualTo(200);
+    }
+
+    @Test
+    void prometheus_shouldServeRegistry() throws Exception {
+        // Given
+        Counter.builder("enrichment.test").register(meterRegistry).increment();
+
+        // When
+        HttpResponse<String> response = get(HealthServer.PROMETHEUS_PATH);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+            contentType -> assertThat(contentType).startsWith("text/plain"));
+        assertThat(response.body()).contains("enrichment_test_total 1.0");
+    }
+
+    @Test
+    void unknownPath_shouldReturnNotFound() throws Exception {
+        assertThat(get(HealthServer.HEALTH_PATH + "/unknown").statusCode()).isEqualTo(404);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + healthServer.getPort() + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.numaflow.vertex;
+
+import com.example.numaflow.config.JsonMappers;
+import com.example.numaflow.config.ProcessingProperties;
+import com.example.numaflow.model.Event;
+import com.example.numaflow.model.TextSegment;
+import com.example.numaflow.nlp.SegmentSink;
+import com.example.numaflow.service.EventEnrichmentService;
+import com.example.numaflow.service.NlpEnrichmentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.numaproj.numaflow.batchmapper.BatchResponse;
+import io.numaproj.numaflow.batchmapper.BatchResponses;
+import io.numaproj.numaflow.batchmapper.Datum;
+import io.numaproj.numaflow.batchmapper.DatumIterator;
+import io.numaproj.numaflow.batchmapper.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EnrichmentBatchVertex.
+ */
+@ExtendWith(MockitoExtension.class)
+class EnrichmentBatchVertexTest {
+
+    private static final String[] KEYS = {"key"};
+
+    @Mock
+    private NlpEnrichmentService nlpService;
+
+    private final ObjectMapper objectMapper = JsonMappers.wire(true);
+    private final ProcessingProperties properties = new ProcessingProperties();
+    private EnrichmentBatchVertex vertex;
+
+    @BeforeEach
+    void setUp() {
+        properties.setParallelism(1);
+        vertex = new EnrichmentBatchVertex(new EventEnrichmentService(nlpService, properties), objectMapper);
+    }
+
+    @Test
+    void processMessage_shouldReturnOneResponsePerDatumKeyedByDatumId() throws Exception {
+        // Given
+        stubEnrichment();
+        Event first = event("first", "First title");
+        Event second = event("second", "Second title");
+        Event third = event("third", "Third title");
+
+        // When
+        BatchResponses responses = vertex.processMessage(
+            iterator(datum("d1", first), datum("d2", second), datum("d3", third)));
+
+        // Then
+        assertThat(responses.getItems()).extracting(BatchResponse::getId).containsExactly("d1", "d2", "d3");
+        for (int i = 0; i < 3; i++) {
+            assertThat(tags(responses, i)).containsExactly("enriched");
+            assertThat(responses.getItems().get(i).getItems().get(0).getKeys()).isEqualTo(KEYS);
+        }
+        assertThat(onlyMessage(responses, 0).get("originalEvent").get("id").asText()).isEqualTo("first");
+        assertThat(onlyMessage(responses, 1).get("originalEvent").get("id").asText()).isEqualTo("second");
+        assertThat(onlyMessage(responses, 2).get("originalEvent").get("id").asText()).isEqualTo("third");
+    }
+
+    @Test
+    void processMessage_shouldTagEnrichedSkippedAndFailedEvents() throws Exception {
+        // Given
+        stubEnrichment();
+        when(nlpService.enrichField(eq("title"), eq("Broken title"), any(), anyLong()))
+            .thenThrow(new IllegalStateException("boom"));
+        Event enriched = event("enriched", "Fine title");
+        Event skipped = event("skipped", "");
+        Event failed = event("failed", "Broken title");
+
+        // When
+        BatchResponses responses = vertex.processMessage(
+            iterator(datum("d1", enriched), datum("d2", skipped), datum("d3", failed)));
+
+        // Then
+        assertThat(tags(responses, 0)).containsExactly("enriched");
+        assertThat(onlyMessage(responses, 0).get("enrichmentMetadata").get("status").asText()).isEqualTo("enriched");
+        assertThat(tags(responses, 1)).containsExactly("skipped");
+        assertThat(onlyMessage(responses, 1).get("enrichmentMetadata").get("reason").asText())
+            .isEqualTo("no_text_fields");
+        assertThat(tags(responses, 2)).containsExactly("error");
+        JsonNode error = onlyMessage(responses, 2);
+        assertThat(error.get("errorType").asText()).isEqualTo("ENRICHMENT_FAILURE");
+        assertThat(error.get("errorMessage").asText()).isEqualTo("boom");
+    }
+
+    @Test
+    void processMessage_withParseFailuresInBatch_shouldKeepLaterResultsWithTheirDatums() throws Exception {
+        // Given
+        stubEnrichment();
+        Event first = event("first", "First title");
+        Event skipped = event("skipped", "");
+        Event last = event("last", "Last title");
+
+        // When
+        BatchResponses responses = vertex.processMessage(iterator(
+            datum("d1", "{not json".getBytes(StandardCharsets.UTF_8)),
+            datum("d2", first),
+            datum("d3", "[]".getBytes(StandardCharsets.UTF_8)),
+            datum("d4", skipped),
+            datum("d5", last)));
+
+        // Then
+        assertThat(responses.getItems()).extracting(BatchResponse::getId)
+            .containsExactly("d1", "d2", "d3", "d4", "d5");
+        assertThat(tags(responses, 0)).containsExactly("error");
+        assertThat(onlyMessage(responses, 0).get("errorType").asText()).isEqualTo("ENRICHMENT_ERROR");
+        assertThat(tags(responses, 1)).containsExactly("enriched");
+        assertThat(onlyMessage(responses, 1).get("originalEvent").get("id").asText()).isEqualTo("first");
+        assertThat(tags(responses, 2)).containsExactly("error");
+        assertThat(tags(responses, 3)).containsExactly("skipped");
+        assertThat(tags(responses, 4)).containsExactly("enriched");
+        JsonNode lastOutput = onlyMessage(responses, 4);
+        assertThat(lastOutput.get("originalEvent").get("id").asText()).isEqualTo("last");
+        assertThat(lastOutput.get("enrichedFields").get("title").get(0).get("text").asText()).isEqualTo("Last title");
+    }
+
+    @Test
+    void processMessage_withEmptyBatch_shouldReturnNoResponses() {
+        // When
+        BatchResponses responses = vertex.processMessage(iterator());
+
+        // Then
+        assertThat(responses.getItems()).isEmpty();
+    }
+
+    @Test
+    void processMessage_withEventOverStreamingThreshold_shouldStreamItOutsideTheBatch() throws Exception {
+        // Given
+        properties.setStreamingThresholdChars(40);
+        String longContent = "A document long enough to be streamed. It has two sentences.";
+        Event large = event("large", "Large title");
+        large.setContent(longContent);
+        Event small = event("small", "Small title");
+
+        stubEnrichment();
+        when(nlpService.enrichFieldStreaming(anyString(), any(), any(), any())).thenAnswer(invocation -> {
+            CharSequence text = invocation.getArgument(1);
+            SegmentSink sink = invocation.getArgument(3);
+            sink.accept(new TextSegment(text.toString(), 0, text.length(), 1));
+            return 1;
+        });
+
+        // When
+        BatchResponses responses = vertex.processMessage(iterator(datum("d1", large), datum("d2", small)));
+
+        // Then
+        assertThat(responses.getItems()).extracting(BatchResponse::getId).containsExactly("d1", "d2");
+        JsonNode streamed = onlyMessage(responses, 0);
+        assertThat(streamed.get("originalEvent").get("id").asText()).isEqualTo("large");
+        assertThat(streamed.get("enrichedFields").get("content").get(0).get("text").asText()).isEqualTo(longContent);
+        assertThat(streamed.get("enrichmentMetadata").get("streamed").asBoolean()).isTrue();
+        assertThat(streamed.get("enrichmentMetadata").get("processor").asText()).isEqualTo("EnrichmentBatchVertex");
+        assertThat(onlyMessage(responses, 1).get("enrichmentMetadata").has("streamed")).isFalse();
+        verify(nlpService, never()).enrichField(eq("content"), anyString(), any(), anyLong());
+    }
+
+    private void stubEnrichment() {
+        when(nlpService.enrichField(anyString(), anyString(), any(), anyLong())).thenAnswer(invocation -> {
+            String text = invocation.getArgument(1);
+            return List.of(new TextSegment(text, 0, text.length(), 1));
+        });
+    }
+
+    private static Event event(String id, String title) {
+        Event event = new Event(title, "");
+        event.setId(id);
+        return event;
+    }
+
+    private Datum datum(String id, Event event) throws Exception {
+        return datum(id, objectMapper.writeValueAsBytes(event));
+    }
+
+    private static Datum datum(String id, byte[] value) {
+        Datum datum = mock(Datum.class);
+        when(datum.getId()).thenReturn(id);
+        when(datum.getValue()).thenReturn(value);
+        when(datum.getKeys()).thenReturn(KEYS);
+        return datum;
+    }
+
+    private static DatumIterator iterator(Datum... datums) {
+        List<Datum> remaining = new ArrayList<>(List.of(datums));
+        return () -> remaining.isEmpty() ? null : remaining.remove(0);
+    }
+
+    private static List<String> tags(BatchResponses responses, int index) {
+        List<Message> messages = responses.getItems().get(index).getItems();
+        assertThat(messages).hasSize(1);
+        return List.of(messages.get(0).getTags());
+    }
+
+    private JsonNode onlyMessage(BatchResponses responses, int index) throws Exception {
+        List<Message> messages = responses.getItems().get(index).getItems();
+        assertThat(messages).hasSize(1);
+        return objectMapper.readTree(messages.get(0).getValue());
+    }
+}